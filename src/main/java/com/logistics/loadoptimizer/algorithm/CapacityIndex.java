@@ -0,0 +1,301 @@
+package com.logistics.loadoptimizer.algorithm;
+
+import com.logistics.loadoptimizer.exception.PayloadTooLargeException;
+import com.logistics.loadoptimizer.model.OptimizationResult;
+import com.logistics.loadoptimizer.model.Order;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+/**
+ * Solve-once, query-many structure for one order board. The builder keeps only
+ * Pareto-optimal loads (no other load is lighter, smaller and pays at least as much),
+ * and the index answers "best load within (maxWeight, maxVolume)" in O(log^2 m) with a
+ * merge-sort tree: points sorted by weight, each tree node holding its points sorted by
+ * volume with a running payout maximum.
+ */
+public class CapacityIndex {
+
+    private static class Load {
+        final int weight;
+        final int volume;
+        final long payout;
+        final int group;
+        final long mask;
+
+        Load(int weight, int volume, long payout, int group, long mask) {
+            this.weight = weight;
+            this.volume = volume;
+            this.payout = payout;
+            this.group = group;
+            this.mask = mask;
+        }
+    }
+
+    private final List<List<Order>> groups;
+    private final Load[] loads;
+    private final int[] weights;
+    private final int leafCount;
+    private final int[][] nodeVolumes;
+    private final int[][] nodeBest;
+    private final int maxWeightLbs;
+    private final int maxVolumeCuft;
+
+    private CapacityIndex(List<List<Order>> groups, List<Load> frontier,
+                          int maxWeightLbs, int maxVolumeCuft) {
+        this.groups = groups;
+        this.maxWeightLbs = maxWeightLbs;
+        this.maxVolumeCuft = maxVolumeCuft;
+
+        frontier.sort(Comparator.comparingInt(l -> l.weight));
+        this.loads = frontier.toArray(new Load[0]);
+        this.weights = new int[loads.length];
+        for (int i = 0; i < loads.length; i++) {
+            weights[i] = loads[i].weight;
+        }
+
+        int size = 1;
+        while (size < Math.max(loads.length, 1)) {
+            size <<= 1;
+        }
+        this.leafCount = size;
+        this.nodeVolumes = new int[2 * size][];
+        this.nodeBest = new int[2 * size][];
+
+        // Point ids per node sorted by volume; only needed while building
+        int[][] nodePoints = new int[2 * size][];
+        for (int i = 0; i < size; i++) {
+            nodePoints[size + i] = i < loads.length ? new int[]{i} : new int[0];
+        }
+        for (int node = size - 1; node >= 1; node--) {
+            nodePoints[node] = mergeByVolume(nodePoints[2 * node], nodePoints[2 * node + 1]);
+        }
+
+        for (int node = 1; node < 2 * size; node++) {
+            int[] points = nodePoints[node];
+            int[] volumes = new int[points.length];
+            int[] best = new int[points.length];
+            for (int k = 0; k < points.length; k++) {
+                volumes[k] = loads[points[k]].volume;
+                best[k] = k == 0 ? points[0] : better(best[k - 1], points[k]);
+            }
+            nodeVolumes[node] = volumes;
+            nodeBest[node] = best;
+        }
+    }
+
+    /**
+     * @param maxLoads cap on frontier loads held while building; the tree needs
+     *                 O(m log m) ints, so larger boards are rejected rather than built
+     */
+    public static Builder builder(int maxWeightLbs, int maxVolumeCuft, int maxLoads) {
+        return new Builder(maxWeightLbs, maxVolumeCuft, maxLoads);
+    }
+
+    public int size() {
+        return loads.length;
+    }
+
+    /**
+     * Best load for a truck no larger than the capacity the index was built for.
+     */
+    public OptimizationResult query(int maxWeightLbs, int maxVolumeCuft) {
+        if (maxWeightLbs > this.maxWeightLbs || maxVolumeCuft > this.maxVolumeCuft) {
+            throw new IllegalArgumentException("Capacity " + maxWeightLbs + "/" + maxVolumeCuft
+                + " exceeds index bound " + this.maxWeightLbs + "/" + this.maxVolumeCuft);
+        }
+
+        int prefix = upperBound(weights, weights.length, maxWeightLbs);
+        int best = -1;
+        for (int l = leafCount, r = leafCount + prefix; l < r; l >>= 1, r >>= 1) {
+            if ((l & 1) == 1) {
+                best = better(best, bestInNode(l++, maxVolumeCuft));
+            }
+            if ((r & 1) == 1) {
+                best = better(best, bestInNode(--r, maxVolumeCuft));
+            }
+        }
+
+        if (best < 0) {
+            return OptimizationResult.builder()
+                .selectedOrders(List.of())
+                .totalPayoutCents(0L)
+                .totalWeightLbs(0)
+                .totalVolumeCuft(0)
+                .build();
+        }
+
+        Load load = loads[best];
+        List<Order> group = groups.get(load.group);
+        List<Order> selectedOrders = new ArrayList<>(Long.bitCount(load.mask));
+        for (int i = 0; i < group.size(); i++) {
+            if ((load.mask & (1L << i)) != 0) {
+                selectedOrders.add(group.get(i));
+            }
+        }
+
+        return OptimizationResult.builder()
+            .selectedOrders(selectedOrders)
+            .totalPayoutCents(load.payout)
+            .totalWeightLbs(load.weight)
+            .totalVolumeCuft(load.volume)
+            .build();
+    }
+
+    private int bestInNode(int node, int maxVolumeCuft) {
+        int pos = upperBound(nodeVolumes[node], nodeVolumes[node].length, maxVolumeCuft) - 1;
+        return pos < 0 ? -1 : nodeBest[node][pos];
+    }
+
+    private int better(int a, int b) {
+        if (a < 0) return b;
+        if (b < 0) return a;
+        return loads[b].payout > loads[a].payout ? b : a;
+    }
+
+    private int[] mergeByVolume(int[] left, int[] right) {
+        int[] merged = new int[left.length + right.length];
+        int i = 0;
+        int j = 0;
+        for (int k = 0; k < merged.length; k++) {
+            if (j >= right.length
+                || (i < left.length && loads[left[i]].volume <= loads[right[j]].volume)) {
+                merged[k] = left[i++];
+            } else {
+                merged[k] = right[j++];
+            }
+        }
+        return merged;
+    }
+
+    private static int upperBound(int[] values, int length, int key) {
+        int lo = 0;
+        int hi = length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (values[mid] <= key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Collects Pareto-optimal loads under the index bound. Subset groups are expanded
+     * order by order, keeping only the non-dominated frontier after each step
+     * (Nemhauser-Ullmann), so the work tracks frontier size rather than 2^n.
+     */
+    public static class Builder {
+        private final int maxWeightLbs;
+        private final int maxVolumeCuft;
+        private final int maxLoads;
+        private final List<List<Order>> groups = new ArrayList<>();
+        private final List<Load> candidates = new ArrayList<>();
+
+        private Builder(int maxWeightLbs, int maxVolumeCuft, int maxLoads) {
+            this.maxWeightLbs = maxWeightLbs;
+            this.maxVolumeCuft = maxVolumeCuft;
+            this.maxLoads = maxLoads;
+        }
+
+        /**
+         * Adds every feasible combination of the given orders.
+         */
+        public Builder addSubsetsOf(List<Order> orders) {
+            if (orders.isEmpty()) {
+                return this;
+            }
+            if (orders.size() > 62) {
+                throw new IllegalArgumentException("At most 62 orders per subset group");
+            }
+            int group = groups.size();
+            groups.add(List.copyOf(orders));
+
+            List<Load> frontier = new ArrayList<>();
+            frontier.add(new Load(0, 0, 0L, group, 0L));
+            for (int i = 0; i < orders.size(); i++) {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new CancellationException("Optimization cancelled");
+                }
+                Order order = orders.get(i);
+                long bit = 1L << i;
+                int size = frontier.size();
+                for (int k = 0; k < size; k++) {
+                    Load load = frontier.get(k);
+                    int w = load.weight + order.getWeightLbs();
+                    int v = load.volume + order.getVolumeCuft();
+                    if (w <= maxWeightLbs && v <= maxVolumeCuft) {
+                        frontier.add(new Load(w, v, load.payout + order.getPayoutCents(),
+                            group, load.mask | bit));
+                    }
+                }
+                frontier = pareto(frontier);
+                checkLoadCount(frontier.size());
+            }
+            candidates.addAll(frontier);
+            return this;
+        }
+
+        /**
+         * Adds a single order as a standalone load, e.g. a hazmat order that cannot share.
+         */
+        public Builder addSingle(Order order) {
+            if (order.fitsInCapacity(maxWeightLbs, maxVolumeCuft)) {
+                int group = groups.size();
+                groups.add(List.of(order));
+                candidates.add(new Load(order.getWeightLbs(), order.getVolumeCuft(),
+                    order.getPayoutCents(), group, 1L));
+                checkLoadCount(0);
+            }
+            return this;
+        }
+
+        public CapacityIndex build() {
+            return new CapacityIndex(groups, pareto(candidates), maxWeightLbs, maxVolumeCuft);
+        }
+
+        private void checkLoadCount(int pending) {
+            if (candidates.size() + pending > maxLoads) {
+                throw new PayloadTooLargeException(String.format(
+                    "Board has more than %d non-dominated loads; split it across requests", maxLoads));
+            }
+        }
+
+        /**
+         * Sweeps loads by weight and keeps those not dominated by an earlier load; a
+         * Fenwick tree over volume ranks gives the best payout at or below each volume.
+         */
+        private static List<Load> pareto(List<Load> loads) {
+            List<Load> sorted = new ArrayList<>(loads);
+            sorted.sort(Comparator.<Load>comparingInt(l -> l.weight)
+                .thenComparingInt(l -> l.volume)
+                .thenComparing(Comparator.<Load>comparingLong(l -> l.payout).reversed()));
+
+            int[] volumes = sorted.stream().mapToInt(l -> l.volume).distinct().sorted().toArray();
+            long[] fenwick = new long[volumes.length + 1];
+            Arrays.fill(fenwick, -1L);
+
+            List<Load> kept = new ArrayList<>();
+            for (Load load : sorted) {
+                int rank = Arrays.binarySearch(volumes, load.volume) + 1;
+                long bestBelow = -1L;
+                for (int i = rank; i > 0; i -= i & -i) {
+                    bestBelow = Math.max(bestBelow, fenwick[i]);
+                }
+                if (bestBelow >= load.payout) {
+                    continue;
+                }
+                kept.add(load);
+                for (int i = rank; i < fenwick.length; i += i & -i) {
+                    fenwick[i] = Math.max(fenwick[i], load.payout);
+                }
+            }
+            return kept;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.logistics.loadoptimizer.algorithm;
 
 import com.logistics.loadoptimizer.model.Order;
 import com.logistics.loadoptimizer.model.OptimizationResult;
+import com.logistics.loadoptimizer.model.SolveStats;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
@@ -10,11 +11,17 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
 
 @Slf4j
 @Component
 public class DPBitmaskOptimizer implements OptimizationAlgorithm {
 
+    static final String ALGORITHM = "dp-bitmask";
+
+    // Masks between cooperative cancellation checks
+    private static final long CANCEL_CHECK_INTERVAL = 1L << 12;
+
     private static class State {
         final long payout;
         final int weight;
@@ -49,6 +56,9 @@ public class DPBitmaskOptimizer implements OptimizationAlgorithm {
         long totalStates = 1L << n;
 
         for (long mask = 0; mask < totalStates; mask++) {
+            if ((mask & (CANCEL_CHECK_INTERVAL - 1)) == 0 && Thread.currentThread().isInterrupted()) {
+                throw new CancellationException("Optimization cancelled");
+            }
             State current = dp.get(mask);
             if (current == null) continue;
 
@@ -74,6 +84,8 @@ public class DPBitmaskOptimizer implements OptimizationAlgorithm {
             }
         }
 
+        // Every subset of a fitting load fits too, so the map holds exactly the fitting subsets
+        long statesVisited = dp.size();
         State best = dp.values().stream()
             .max(Comparator.comparingLong(s -> s.payout))
             .orElse(new State(0, 0, 0, 0L));
@@ -90,6 +102,7 @@ public class DPBitmaskOptimizer implements OptimizationAlgorithm {
             .totalPayoutCents(best.payout)
             .totalWeightLbs(best.weight)
             .totalVolumeCuft(best.volume)
+            .stats(new SolveStats(ALGORITHM, statesVisited, totalStates - statesVisited))
             .build();
     }
 
@@ -99,6 +112,7 @@ public class DPBitmaskOptimizer implements OptimizationAlgorithm {
             .totalPayoutCents(0L)
             .totalWeightLbs(0)
             .totalVolumeCuft(0)
+            .stats(new SolveStats(ALGORITHM, 1, 0))
             .build();
     }
 }
@@ -0,0 +1,141 @@
+package com.logistics.loadoptimizer.algorithm;
+
+import com.logistics.loadoptimizer.exception.PayloadTooLargeException;
+import com.logistics.loadoptimizer.exception.SolverBusyException;
+import com.logistics.loadoptimizer.model.OptimizationResult;
+import com.logistics.loadoptimizer.model.Order;
+import com.logistics.loadoptimizer.model.SolveStats;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Subset DP with per-mask weight, volume and payout tables held off-heap, for boards too
+ * large for the map-based {@link DPBitmaskOptimizer} (up to 30 orders). Tables live in
+ * native memory handed out by {@link OffHeapTables}, so a 2^28-state solve does not
+ * touch the Java heap or GC.
+ *
+ * <p>Requires {@code --add-modules jdk.incubator.foreign}; {@link #isAvailable()} is
+ * false otherwise and callers must use another engine.
+ */
+@Slf4j
+@Component
+public class OffHeapDPOptimizer implements OptimizationAlgorithm {
+
+    static final boolean FOREIGN_API_AVAILABLE = detectForeignApi();
+
+    static final String ALGORITHM = "offheap-dp";
+
+    // int weight + int volume + long payout per subset mask
+    static final long BYTES_PER_STATE = 16;
+
+    private static final int MAX_ORDERS = 30;
+
+    private final boolean enabled;
+    private final long memoryBudgetBytes;
+    private final boolean pooled;
+    private OffHeapTables tables;
+
+    public OffHeapDPOptimizer(
+        @Value("${optimizer.offheap.enabled:true}") boolean enabled,
+        @Value("${optimizer.offheap.memory-budget-bytes:1073741824}") long memoryBudgetBytes,
+        @Value("${optimizer.offheap.pooled:false}") boolean pooled
+    ) {
+        this.enabled = enabled;
+        this.memoryBudgetBytes = memoryBudgetBytes;
+        this.pooled = pooled;
+    }
+
+    public boolean isAvailable() {
+        return enabled && FOREIGN_API_AVAILABLE;
+    }
+
+    @Override
+    public OptimizationResult optimize(
+        List<Order> orders,
+        int maxWeightLbs,
+        int maxVolumeCuft
+    ) {
+        if (!isAvailable()) {
+            throw new IllegalStateException("Off-heap DP engine is not available");
+        }
+
+        int n = orders == null ? 0 : orders.size();
+        if (n > MAX_ORDERS) {
+            throw new PayloadTooLargeException("Maximum " + MAX_ORDERS + " orders per route group");
+        }
+
+        long requiredBytes = BYTES_PER_STATE << n;
+        if (requiredBytes > memoryBudgetBytes) {
+            throw new PayloadTooLargeException(String.format(
+                "Route group of %d orders needs %d MiB of DP tables, budget is %d MiB",
+                n, requiredBytes >> 20, memoryBudgetBytes >> 20));
+        }
+
+        int[] weights = new int[n];
+        int[] volumes = new int[n];
+        long[] payouts = new long[n];
+        for (int i = 0; i < n; i++) {
+            Order order = orders.get(i);
+            weights[i] = order.getWeightLbs();
+            volumes[i] = order.getVolumeCuft();
+            payouts[i] = order.getPayoutCents();
+        }
+
+        long[] best = tables().solve(n, weights, volumes, payouts, maxWeightLbs, maxVolumeCuft);
+        long mask = best[1];
+
+        List<Order> selectedOrders = new ArrayList<>(Long.bitCount(mask));
+        int totalWeight = 0;
+        int totalVolume = 0;
+        for (int i = 0; i < n; i++) {
+            if ((mask & (1L << i)) != 0) {
+                selectedOrders.add(orders.get(i));
+                totalWeight += weights[i];
+                totalVolume += volumes[i];
+            }
+        }
+
+        return OptimizationResult.builder()
+            .selectedOrders(selectedOrders)
+            .totalPayoutCents(best[0])
+            .totalWeightLbs(totalWeight)
+            .totalVolumeCuft(totalVolume)
+            .stats(new SolveStats(ALGORITHM, best[2], best[3]))
+            .build();
+    }
+
+    // Created lazily so OffHeapTables is never loaded when the module is missing
+    private synchronized OffHeapTables tables() {
+        if (tables == null) {
+            tables = new OffHeapTables(memoryBudgetBytes, pooled);
+            log.info("Off-heap DP tables ready: budgetMiB={}, pooled={}",
+                memoryBudgetBytes >> 20, pooled);
+        }
+        return tables;
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (tables != null) {
+            tables.close();
+        }
+    }
+
+    static SolverBusyException overBudget(long requiredBytes, long budgetBytes) {
+        return new SolverBusyException(String.format(
+            "Off-heap memory budget of %d MiB is in use, %d MiB more needed; retry later",
+            budgetBytes >> 20, requiredBytes >> 20));
+    }
+
+    private static boolean detectForeignApi() {
+        if (System.getProperty("org.graalvm.nativeimage.imagecode") != null) {
+            return false;
+        }
+        return ModuleLayer.boot().findModule("jdk.incubator.foreign").isPresent();
+    }
+}
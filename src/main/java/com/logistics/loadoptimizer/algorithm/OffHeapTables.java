@@ -0,0 +1,165 @@
+package com.logistics.loadoptimizer.algorithm;
+
+import jdk.incubator.foreign.MemoryAccess;
+import jdk.incubator.foreign.MemorySegment;
+import jdk.incubator.foreign.ResourceScope;
+
+import java.util.Iterator;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Native memory for {@link OffHeapDPOptimizer}. Each solve gets a block under its own
+ * resource scope (the JDK 17 incubator equivalent of an arena) that is closed, and the
+ * memory freed, as soon as the solve returns. In pooled mode blocks are kept after use
+ * and handed to later solves of the same or smaller size. Every live block, idle or
+ * not, counts against the memory budget.
+ */
+final class OffHeapTables {
+
+    private static final class Block {
+        final ResourceScope scope;
+        final MemorySegment segment;
+
+        Block(ResourceScope scope, MemorySegment segment) {
+            this.scope = scope;
+            this.segment = segment;
+        }
+    }
+
+    private final long budgetBytes;
+    private final boolean pooled;
+    private final AtomicLong reservedBytes = new AtomicLong();
+    private final ConcurrentLinkedDeque<Block> idle = new ConcurrentLinkedDeque<>();
+
+    OffHeapTables(long budgetBytes, boolean pooled) {
+        this.budgetBytes = budgetBytes;
+        this.pooled = pooled;
+    }
+
+    /**
+     * Returns {bestPayout, bestMask, statesVisited, prunedStates}, counted as in
+     * {@link com.logistics.loadoptimizer.model.SolveStats}. A mask's weight entry is -1 when
+     * the subset is over capacity; since weights are positive every superset is then
+     * infeasible too.
+     */
+    long[] solve(int n, int[] weights, int[] volumes, long[] payouts,
+                 int maxWeight, int maxVolume) {
+        long states = 1L << n;
+        Block block = acquire(states * OffHeapDPOptimizer.BYTES_PER_STATE);
+        try {
+            MemorySegment weightTable = block.segment.asSlice(0, states * 4);
+            MemorySegment volumeTable = block.segment.asSlice(states * 4, states * 4);
+            MemorySegment payoutTable = block.segment.asSlice(states * 8, states * 8);
+
+            MemoryAccess.setIntAtIndex(weightTable, 0, 0);
+            MemoryAccess.setIntAtIndex(volumeTable, 0, 0);
+            MemoryAccess.setLongAtIndex(payoutTable, 0, 0L);
+
+            long bestPayout = 0;
+            long bestMask = 0;
+            long prunedStates = 0;
+            for (long mask = 1; mask < states; mask++) {
+                if ((mask & 0xFFFF) == 0 && Thread.currentThread().isInterrupted()) {
+                    throw new CancellationException("Optimization cancelled");
+                }
+                long rest = mask & (mask - 1);
+                int restWeight = MemoryAccess.getIntAtIndex(weightTable, rest);
+                if (restWeight < 0) {
+                    MemoryAccess.setIntAtIndex(weightTable, mask, -1);
+                    prunedStates++;
+                    continue;
+                }
+
+                int i = Long.numberOfTrailingZeros(mask);
+                long weight = (long) restWeight + weights[i];
+                long volume = (long) MemoryAccess.getIntAtIndex(volumeTable, rest) + volumes[i];
+                if (weight > maxWeight || volume > maxVolume) {
+                    MemoryAccess.setIntAtIndex(weightTable, mask, -1);
+                    prunedStates++;
+                    continue;
+                }
+
+                long payout = MemoryAccess.getLongAtIndex(payoutTable, rest) + payouts[i];
+                MemoryAccess.setIntAtIndex(weightTable, mask, (int) weight);
+                MemoryAccess.setIntAtIndex(volumeTable, mask, (int) volume);
+                MemoryAccess.setLongAtIndex(payoutTable, mask, payout);
+                if (payout > bestPayout) {
+                    bestPayout = payout;
+                    bestMask = mask;
+                }
+            }
+            return new long[]{bestPayout, bestMask, states - prunedStates, prunedStates};
+        } finally {
+            release(block);
+        }
+    }
+
+    private Block acquire(long bytes) {
+        if (pooled) {
+            for (Iterator<Block> it = idle.iterator(); it.hasNext(); ) {
+                Block block = it.next();
+                if (block.segment.byteSize() >= bytes && idle.remove(block)) {
+                    return block;
+                }
+            }
+        }
+
+        while (!tryReserve(bytes)) {
+            // Idle pooled blocks are the only memory we can reclaim on demand
+            Block victim = idle.pollFirst();
+            if (victim == null) {
+                throw OffHeapDPOptimizer.overBudget(bytes, budgetBytes);
+            }
+            free(victim);
+        }
+
+        ResourceScope scope = pooled ? ResourceScope.newSharedScope() : ResourceScope.newConfinedScope();
+        try {
+            return new Block(scope, MemorySegment.allocateNative(bytes, 8, scope));
+        } catch (OutOfMemoryError e) {
+            // JDK 17 native segments are capped by -XX:MaxDirectMemorySize
+            scope.close();
+            reservedBytes.addAndGet(-bytes);
+            throw OffHeapDPOptimizer.overBudget(bytes, budgetBytes);
+        } catch (RuntimeException e) {
+            scope.close();
+            reservedBytes.addAndGet(-bytes);
+            throw e;
+        }
+    }
+
+    private void release(Block block) {
+        if (pooled) {
+            idle.addLast(block);
+        } else {
+            free(block);
+        }
+    }
+
+    private boolean tryReserve(long bytes) {
+        while (true) {
+            long current = reservedBytes.get();
+            if (current + bytes > budgetBytes) {
+                return false;
+            }
+            if (reservedBytes.compareAndSet(current, current + bytes)) {
+                return true;
+            }
+        }
+    }
+
+    private void free(Block block) {
+        long bytes = block.segment.byteSize();
+        block.scope.close();
+        reservedBytes.addAndGet(-bytes);
+    }
+
+    void close() {
+        Block block;
+        while ((block = idle.pollFirst()) != null) {
+            free(block);
+        }
+    }
+}
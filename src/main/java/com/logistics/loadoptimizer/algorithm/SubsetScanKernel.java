@@ -0,0 +1,126 @@
+package com.logistics.loadoptimizer.algorithm;
+
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.util.concurrent.CancellationException;
+
+/**
+ * Vector API kernel for exhaustive subset evaluation. Orders are split into a low and a
+ * high half; subset sums of the low half live in primitive tables, and for every high
+ * subset the kernel checks capacity and accumulates payout for a full vector of low
+ * subsets per instruction.
+ *
+ * <p>Only referenced behind {@link VectorizedDPOptimizer#VECTOR_API_AVAILABLE}, so the
+ * class is never loaded when {@code jdk.incubator.vector} is missing.
+ */
+final class SubsetScanKernel {
+
+    private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+
+    // 2^10 low subsets: three long tables of 8 KB each stay cache resident
+    private static final int MAX_LOW_BITS = 10;
+
+    private SubsetScanKernel() {
+    }
+
+    static String describe() {
+        return SPECIES.toString();
+    }
+
+    /**
+     * Returns {bestPayout, bestMask, statesVisited, prunedStates} over all subsets
+     * within both capacities, counted as in {@link com.logistics.loadoptimizer.model.SolveStats}.
+     */
+    static long[] scan(long[] weights, long[] volumes, long[] payouts,
+                       long maxWeight, long maxVolume) {
+        int n = weights.length;
+        int lowBits = Math.min(n, MAX_LOW_BITS);
+        int highBits = n - lowBits;
+        int lowCount = 1 << lowBits;
+        int highCount = 1 << highBits;
+
+        long[] lowW = new long[lowCount];
+        long[] lowV = new long[lowCount];
+        long[] lowP = new long[lowCount];
+        fillSubsetSums(weights, volumes, payouts, 0, lowW, lowV, lowP);
+
+        long[] highW = new long[highCount];
+        long[] highV = new long[highCount];
+        long[] highP = new long[highCount];
+        fillSubsetSums(weights, volumes, payouts, lowBits, highW, highV, highP);
+
+        int upper = SPECIES.loopBound(lowCount);
+        LongVector infeasible = LongVector.broadcast(SPECIES, -1L);
+
+        long bestPayout = 0;
+        long bestMask = 0;
+        long fitting = 0;
+
+        for (int h = 0; h < highCount; h++) {
+            if ((h & 0xFF) == 0 && Thread.currentThread().isInterrupted()) {
+                throw new CancellationException("Optimization cancelled");
+            }
+            long hw = highW[h];
+            long hv = highV[h];
+            // Low sums are non-negative, so an overweight high subset prunes the whole block
+            if (hw > maxWeight || hv > maxVolume) {
+                continue;
+            }
+            long wLimit = maxWeight - hw;
+            long vLimit = maxVolume - hv;
+
+            LongVector blockBest = infeasible;
+            int j = 0;
+            for (; j < upper; j += SPECIES.length()) {
+                VectorMask<Long> fits = LongVector.fromArray(SPECIES, lowW, j)
+                    .compare(VectorOperators.LE, wLimit)
+                    .and(LongVector.fromArray(SPECIES, lowV, j)
+                        .compare(VectorOperators.LE, vLimit));
+                blockBest = blockBest.max(
+                    infeasible.blend(LongVector.fromArray(SPECIES, lowP, j), fits));
+                fitting += fits.trueCount();
+            }
+            long blockPayout = blockBest.reduceLanes(VectorOperators.MAX);
+            for (; j < lowCount; j++) {
+                if (lowW[j] <= wLimit && lowV[j] <= vLimit) {
+                    fitting++;
+                    if (lowP[j] > blockPayout) {
+                        blockPayout = lowP[j];
+                    }
+                }
+            }
+
+            if (blockPayout >= 0 && highP[h] + blockPayout > bestPayout) {
+                bestPayout = highP[h] + blockPayout;
+                bestMask = ((long) h << lowBits) | locate(lowW, lowV, lowP, wLimit, vLimit, blockPayout);
+            }
+        }
+
+        return new long[]{bestPayout, bestMask, fitting, ((long) highCount * lowCount) - fitting};
+    }
+
+    private static void fillSubsetSums(long[] weights, long[] volumes, long[] payouts, int offset,
+                                       long[] sumW, long[] sumV, long[] sumP) {
+        for (int mask = 1; mask < sumW.length; mask++) {
+            int rest = mask & (mask - 1);
+            int i = offset + Integer.numberOfTrailingZeros(mask);
+            sumW[mask] = sumW[rest] + weights[i];
+            sumV[mask] = sumV[rest] + volumes[i];
+            sumP[mask] = sumP[rest] + payouts[i];
+        }
+    }
+
+    // Scalar scan, only run when a block improves the best payout
+    private static long locate(long[] lowW, long[] lowV, long[] lowP,
+                              long wLimit, long vLimit, long payout) {
+        for (int j = 0; j < lowW.length; j++) {
+            if (lowP[j] == payout && lowW[j] <= wLimit && lowV[j] <= vLimit) {
+                return j;
+            }
+        }
+        throw new IllegalStateException("Block maximum not found");
+    }
+}
@@ -0,0 +1,123 @@
+package com.logistics.loadoptimizer.algorithm;
+
+import com.logistics.loadoptimizer.model.OptimizationResult;
+import com.logistics.loadoptimizer.model.Order;
+import com.logistics.loadoptimizer.model.SolveStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Exhaustive subset engine on primitive arrays using the incubating Vector API.
+ * Falls back to {@link DPBitmaskOptimizer} when the {@code jdk.incubator.vector}
+ * module is not resolved (start the JVM with {@code --add-modules jdk.incubator.vector}),
+ * inside a native image, or when disabled via {@code optimizer.vector.enabled}. In that
+ * fallback, boards above {@value #SCALAR_MAX_ORDERS} orders go to {@link OffHeapDPOptimizer}
+ * when it is available, so the per-mask tables the map-based DP would build on the heap
+ * are bounded by the off-heap memory budget instead. The vector kernel itself keeps only
+ * half-board subset sums (at most 3 x 2^20 longs at 30 orders) and needs no such tables.
+ */
+@Slf4j
+@Primary
+@Component
+public class VectorizedDPOptimizer implements OptimizationAlgorithm {
+
+    static final boolean VECTOR_API_AVAILABLE = detectVectorApi();
+
+    static final String ALGORITHM = "vector-subset-scan";
+
+    private static final int MAX_ORDERS = 30;
+
+    static final int SCALAR_MAX_ORDERS = 22;
+
+    private final DPBitmaskOptimizer scalarOptimizer;
+    private final OffHeapDPOptimizer offHeapOptimizer;
+    private final boolean enabled;
+
+    public VectorizedDPOptimizer(
+        DPBitmaskOptimizer scalarOptimizer,
+        OffHeapDPOptimizer offHeapOptimizer,
+        @Value("${optimizer.vector.enabled:true}") boolean enabled
+    ) {
+        this.scalarOptimizer = scalarOptimizer;
+        this.offHeapOptimizer = offHeapOptimizer;
+        this.enabled = enabled;
+        log.info("Vector API {}", isActive()
+            ? "enabled: species=" + SubsetScanKernel.describe()
+            : "unavailable or disabled, using scalar DP");
+    }
+
+    public boolean isActive() {
+        return enabled && VECTOR_API_AVAILABLE;
+    }
+
+    @Override
+    public OptimizationResult optimize(
+        List<Order> orders,
+        int maxWeightLbs,
+        int maxVolumeCuft
+    ) {
+        if (!isActive() || orders == null || orders.isEmpty() || orders.size() > MAX_ORDERS) {
+            return fallback(orders, maxWeightLbs, maxVolumeCuft);
+        }
+
+        int n = orders.size();
+        long[] weights = new long[n];
+        long[] volumes = new long[n];
+        long[] payouts = new long[n];
+        for (int i = 0; i < n; i++) {
+            Order order = orders.get(i);
+            weights[i] = order.getWeightLbs();
+            volumes[i] = order.getVolumeCuft();
+            payouts[i] = order.getPayoutCents();
+        }
+
+        long[] best = SubsetScanKernel.scan(weights, volumes, payouts, maxWeightLbs, maxVolumeCuft);
+        long mask = best[1];
+
+        List<Order> selectedOrders = new ArrayList<>(Long.bitCount(mask));
+        int totalWeight = 0;
+        int totalVolume = 0;
+        for (int i = 0; i < n; i++) {
+            if ((mask & (1L << i)) != 0) {
+                selectedOrders.add(orders.get(i));
+                totalWeight += (int) weights[i];
+                totalVolume += (int) volumes[i];
+            }
+        }
+
+        return OptimizationResult.builder()
+            .selectedOrders(selectedOrders)
+            .totalPayoutCents(best[0])
+            .totalWeightLbs(totalWeight)
+            .totalVolumeCuft(totalVolume)
+            .stats(new SolveStats(ALGORITHM, best[2], best[3]))
+            .build();
+    }
+
+    private OptimizationResult fallback(List<Order> orders, int maxWeightLbs, int maxVolumeCuft) {
+        if (orders != null && orders.size() > SCALAR_MAX_ORDERS && offHeapOptimizer.isAvailable()) {
+            return offHeapOptimizer.optimize(orders, maxWeightLbs, maxVolumeCuft);
+        }
+        return scalarOptimizer.optimize(orders, maxWeightLbs, maxVolumeCuft);
+    }
+
+    private static boolean detectVectorApi() {
+        if (System.getProperty("org.graalvm.nativeimage.imagecode") != null) {
+            return false;
+        }
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return false;
+        }
+        try {
+            SubsetScanKernel.describe();
+            return true;
+        } catch (LinkageError e) {
+            return false;
+        }
+    }
+}
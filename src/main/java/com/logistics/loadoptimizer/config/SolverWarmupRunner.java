@@ -0,0 +1,88 @@
+package com.logistics.loadoptimizer.config;
+
+import com.logistics.loadoptimizer.model.Order;
+import com.logistics.loadoptimizer.model.Truck;
+import com.logistics.loadoptimizer.service.LoadOptimizerService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs synthetic boards through the solver before the application reports ready.
+ * Spring Boot publishes the readiness ACCEPTING_TRAFFIC state only after all
+ * {@link ApplicationRunner}s complete, so new pods get JIT-compiled hot paths
+ * before the readiness probe turns UP. Boards are solved locally even in coordinator
+ * mode, since warming a worker does nothing for this JVM.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SolverWarmupRunner implements ApplicationRunner {
+
+    // One lane so every order lands in the same route group and reaches the subset engine
+    private static final String ORIGIN = "Los Angeles, CA";
+    private static final String DESTINATION = "Dallas, TX";
+
+    // Board sizes vary by +/- this much around board-size so no single n is specialised
+    private static final int SIZE_SPREAD = 2;
+
+    private final LoadOptimizerService optimizerService;
+
+    @Value("${optimizer.warmup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${optimizer.warmup.iterations:30}")
+    private int iterations;
+
+    @Value("${optimizer.warmup.board-size:16}")
+    private int boardSize;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled || iterations <= 0) {
+            log.info("Solver warm-up disabled");
+            return;
+        }
+
+        long start = System.nanoTime();
+        Truck truck = Truck.builder()
+            .id("warmup-truck")
+            .maxWeightLbs(44000)
+            .maxVolumeCuft(3000)
+            .build();
+
+        for (int i = 0; i < iterations; i++) {
+            optimizerService.solveLocally(truck, buildBoard(i));
+        }
+
+        log.info("Solver warm-up finished: iterations={}, boardSize={}, elapsedMs={}",
+            iterations, boardSize, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private List<Order> buildBoard(int seed) {
+        int size = Math.max(1, boardSize - SIZE_SPREAD + seed % (2 * SIZE_SPREAD + 1));
+        LocalDate pickup = LocalDate.now();
+        List<Order> orders = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            orders.add(Order.builder()
+                .id("warmup-" + seed + "-" + i)
+                .payoutCents(50_000L + ((seed * 31L + i * 7919L) % 200_000L))
+                .weightLbs(2_000 + ((seed + i) * 1_337) % 14_000)
+                .volumeCuft(100 + ((seed + i) * 97) % 1_100)
+                .origin(ORIGIN)
+                .destination(DESTINATION)
+                .pickupDate(pickup)
+                .deliveryDate(pickup.plusDays(3))
+                .isHazmat(false)
+                .build());
+        }
+        return orders;
+    }
+}
@@ -1,21 +1,37 @@
 package com.logistics.loadoptimizer.controller;
 
+import com.logistics.loadoptimizer.algorithm.CapacityIndex;
+import com.logistics.loadoptimizer.dto.request.FleetOptimizationRequest;
 import com.logistics.loadoptimizer.dto.request.OptimizationRequest;
+import com.logistics.loadoptimizer.dto.response.FleetOptimizationResponse;
+import com.logistics.loadoptimizer.dto.response.JobResponse;
 import com.logistics.loadoptimizer.dto.response.OptimizationResponse;
+import com.logistics.loadoptimizer.dto.response.SolveExplanation;
+import com.logistics.loadoptimizer.exception.InvalidInputException;
+import com.logistics.loadoptimizer.model.JobPriority;
+import com.logistics.loadoptimizer.model.OptimizationJob;
 import com.logistics.loadoptimizer.model.Order;
 import com.logistics.loadoptimizer.model.OptimizationResult;
 import com.logistics.loadoptimizer.model.Truck;
+import com.logistics.loadoptimizer.service.FleetSizingService;
 import com.logistics.loadoptimizer.service.LoadOptimizerService;
+import com.logistics.loadoptimizer.service.SolverJobScheduler;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -25,10 +41,13 @@ import java.util.stream.Collectors;
 public class LoadOptimizerController {
 
     private final LoadOptimizerService optimizerService;
+    private final SolverJobScheduler jobScheduler;
+    private final FleetSizingService fleetSizingService;
 
     @PostMapping("/optimize")
     public ResponseEntity<OptimizationResponse> optimize(
-        @Valid @RequestBody OptimizationRequest request
+        @Valid @RequestBody OptimizationRequest request,
+        @RequestParam(name = "explain", defaultValue = "false") boolean explain
     ) {
         log.info("ENTER optimize: truckId={}, orders={}",
             request.getTruck().getId(), request.getOrders().size());
@@ -46,6 +65,9 @@ public class LoadOptimizerController {
             truck.getMaxVolumeCuft(),
             result
         );
+        if (explain) {
+            response.setExplain(SolveExplanation.from(result.getTrace()));
+        }
 
         log.info("EXIT optimize: selectedOrders={}, totalPayoutCents={}",
             response.getSelectedOrderIds().size(), response.getTotalPayoutCents());
@@ -53,6 +75,74 @@ public class LoadOptimizerController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/optimize-fleet")
+    public ResponseEntity<FleetOptimizationResponse> optimizeFleet(
+        @Valid @RequestBody FleetOptimizationRequest request
+    ) {
+        log.info("ENTER optimizeFleet: trucks={}, orders={}",
+            request.getTrucks().size(), request.getOrders().size());
+
+        List<Truck> trucks = request.getTrucks().stream()
+            .map(this::convertToTruck)
+            .collect(Collectors.toList());
+        List<Order> orders = request.getOrders().stream()
+            .map(this::convertToOrder)
+            .collect(Collectors.toList());
+
+        CapacityIndex index = fleetSizingService.buildIndex(trucks, orders);
+        List<OptimizationResponse> plans = trucks.stream()
+            .map(truck -> OptimizationResponse.from(
+                truck.getId(),
+                truck.getMaxWeightLbs(),
+                truck.getMaxVolumeCuft(),
+                index.query(truck.getMaxWeightLbs(), truck.getMaxVolumeCuft())))
+            .collect(Collectors.toList());
+
+        log.info("EXIT optimizeFleet: frontierSize={}", index.size());
+
+        return ResponseEntity.ok(FleetOptimizationResponse.builder()
+            .frontierSize(index.size())
+            .plans(plans)
+            .build());
+    }
+
+    @PostMapping("/jobs")
+    public ResponseEntity<JobResponse> submitJob(
+        @Valid @RequestBody OptimizationRequest request,
+        @RequestParam(name = "priority", required = false) String priority
+    ) {
+        Truck truck = convertToTruck(request.getTruck());
+        List<Order> orders = request.getOrders().stream()
+            .map(this::convertToOrder)
+            .collect(Collectors.toList());
+
+        OptimizationJob job = jobScheduler.submit(truck, orders, parsePriority(priority));
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(JobResponse.from(job));
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<JobResponse> getJob(@PathVariable("jobId") String jobId) {
+        return ResponseEntity.ok(JobResponse.from(jobScheduler.get(jobId)));
+    }
+
+    @DeleteMapping("/jobs/{jobId}")
+    public ResponseEntity<JobResponse> cancelJob(@PathVariable("jobId") String jobId) {
+        log.info("Cancel requested: jobId={}", jobId);
+        return ResponseEntity.ok(JobResponse.from(jobScheduler.cancel(jobId)));
+    }
+
+    private JobPriority parsePriority(String priority) {
+        if (priority == null || priority.isBlank()) {
+            return null;
+        }
+        try {
+            return JobPriority.valueOf(priority.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidInputException("Unknown priority: " + priority,
+                List.of("Allowed values: interactive, batch"));
+        }
+    }
+
     private Truck convertToTruck(com.logistics.loadoptimizer.dto.request.TruckDto dto) {
         return Truck.builder()
             .id(dto.getId())
@@ -0,0 +1,27 @@
+package com.logistics.loadoptimizer.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FleetOptimizationRequest {
+
+    @NotEmpty(message = "At least one truck is required")
+    @Size(max = 50, message = "Maximum 50 trucks allowed")
+    @Valid
+    private List<TruckDto> trucks;
+
+    @NotNull(message = "Orders list is required")
+    @Size(max = 30, message = "Maximum 30 orders allowed")
+    @Valid
+    private List<OrderDto> orders;
+}
@@ -19,7 +19,7 @@ public class OptimizationRequest {
     private TruckDto truck;
 
     @NotNull(message = "Orders list is required")
-    @Size(max = 22, message = "Maximum 22 orders allowed")
+    @Size(max = 30, message = "Maximum 30 orders allowed")
     @Valid
     private List<OrderDto> orders;
 }
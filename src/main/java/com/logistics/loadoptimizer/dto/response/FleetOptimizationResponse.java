@@ -0,0 +1,21 @@
+package com.logistics.loadoptimizer.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FleetOptimizationResponse {
+
+    @JsonProperty("frontier_size")
+    private Integer frontierSize;
+
+    private List<OptimizationResponse> plans;
+}
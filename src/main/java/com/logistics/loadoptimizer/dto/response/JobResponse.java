@@ -0,0 +1,67 @@
+package com.logistics.loadoptimizer.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.logistics.loadoptimizer.model.JobPriority;
+import com.logistics.loadoptimizer.model.JobStatus;
+import com.logistics.loadoptimizer.model.OptimizationJob;
+import com.logistics.loadoptimizer.model.OptimizationResult;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class JobResponse {
+
+    @JsonProperty("job_id")
+    private String jobId;
+
+    private JobStatus status;
+
+    private JobPriority priority;
+
+    @JsonProperty("estimated_cost")
+    private Long estimatedCost;
+
+    @JsonProperty("submitted_at")
+    private Instant submittedAt;
+
+    @JsonProperty("started_at")
+    private Instant startedAt;
+
+    @JsonProperty("finished_at")
+    private Instant finishedAt;
+
+    private OptimizationResponse result;
+
+    private String error;
+
+    public static JobResponse from(OptimizationJob job) {
+        OptimizationResult result = job.getResult();
+        OptimizationResponse response = result == null ? null : OptimizationResponse.from(
+            job.getTruck().getId(),
+            job.getTruck().getMaxWeightLbs(),
+            job.getTruck().getMaxVolumeCuft(),
+            result
+        );
+
+        return JobResponse.builder()
+            .jobId(job.getId())
+            .status(job.getStatus())
+            .priority(job.getPriority())
+            .estimatedCost(job.getEstimatedCost())
+            .submittedAt(job.getSubmittedAt())
+            .startedAt(job.getStartedAt())
+            .finishedAt(job.getFinishedAt())
+            .result(response)
+            .error(job.getErrorMessage())
+            .build();
+    }
+}
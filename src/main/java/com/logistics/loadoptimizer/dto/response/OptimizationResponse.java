@@ -1,5 +1,6 @@
 package com.logistics.loadoptimizer.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -38,6 +39,9 @@ public class OptimizationResponse {
     @JsonProperty("utilization_volume_percent")
     private Double utilizationVolumePercent;
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private SolveExplanation explain;
+
     public static OptimizationResponse from(
         String truckId,
         int maxWeightLbs,
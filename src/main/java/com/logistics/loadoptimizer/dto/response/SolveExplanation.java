@@ -0,0 +1,125 @@
+package com.logistics.loadoptimizer.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.logistics.loadoptimizer.model.RouteGroupTrace;
+import com.logistics.loadoptimizer.model.SolveTrace;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SolveExplanation {
+
+    @JsonProperty("order_count")
+    private Integer orderCount;
+
+    @JsonProperty("route_group_count")
+    private Integer routeGroupCount;
+
+    @JsonProperty("largest_route_group")
+    private Integer largestRouteGroup;
+
+    @JsonProperty("chosen_route_key")
+    private String chosenRouteKey;
+
+    @JsonProperty("elapsed_micros")
+    private Long elapsedMicros;
+
+    @JsonProperty("route_groups")
+    private List<RouteGroup> routeGroups;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class RouteGroup {
+
+        @JsonProperty("route_key")
+        private String routeKey;
+
+        @JsonProperty("order_count")
+        private Integer orderCount;
+
+        @JsonProperty("hazmat_count")
+        private Integer hazmatCount;
+
+        private String algorithm;
+
+        private String worker;
+
+        @JsonProperty("states_visited")
+        private Long statesVisited;
+
+        @JsonProperty("pruned_states")
+        private Long prunedStates;
+
+        @JsonProperty("payout_cents")
+        private Long payoutCents;
+
+        @JsonProperty("hazmat_chosen")
+        private Boolean hazmatChosen;
+
+        @JsonProperty("elapsed_micros")
+        private Long elapsedMicros;
+
+        public RouteGroupTrace toTrace() {
+            return RouteGroupTrace.builder()
+                .routeKey(routeKey)
+                .orderCount(orderCount == null ? 0 : orderCount)
+                .hazmatCount(hazmatCount == null ? 0 : hazmatCount)
+                .algorithm(algorithm)
+                .worker(worker)
+                .statesVisited(statesVisited == null ? 0 : statesVisited)
+                .prunedStates(prunedStates == null ? 0 : prunedStates)
+                .payoutCents(payoutCents == null ? 0 : payoutCents)
+                .hazmatChosen(Boolean.TRUE.equals(hazmatChosen))
+                .elapsedMicros(elapsedMicros == null ? 0 : elapsedMicros)
+                .build();
+        }
+    }
+
+    public static SolveExplanation from(SolveTrace trace) {
+        if (trace == null) {
+            return SolveExplanation.builder()
+                .orderCount(0)
+                .routeGroupCount(0)
+                .largestRouteGroup(0)
+                .elapsedMicros(0L)
+                .routeGroups(List.of())
+                .build();
+        }
+
+        List<RouteGroup> groups = trace.getRouteGroups().stream()
+            .map(g -> RouteGroup.builder()
+                .routeKey(g.getRouteKey())
+                .orderCount(g.getOrderCount())
+                .hazmatCount(g.getHazmatCount())
+                .algorithm(g.getAlgorithm())
+                .worker(g.getWorker())
+                .statesVisited(g.getStatesVisited())
+                .prunedStates(g.getPrunedStates())
+                .payoutCents(g.getPayoutCents())
+                .hazmatChosen(g.isHazmatChosen())
+                .elapsedMicros(g.getElapsedMicros())
+                .build())
+            .collect(Collectors.toList());
+
+        return SolveExplanation.builder()
+            .orderCount(trace.getOrderCount())
+            .routeGroupCount(trace.getRouteGroupCount())
+            .largestRouteGroup(trace.getLargestRouteGroup())
+            .chosenRouteKey(trace.getChosenRouteKey())
+            .elapsedMicros(trace.getElapsedMicros())
+            .routeGroups(groups)
+            .build();
+    }
+}
@@ -59,6 +59,37 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(response);
     }
 
+    @ExceptionHandler(SolverTimeoutException.class)
+    public ResponseEntity<ErrorResponse> handleSolverTimeout(
+        SolverTimeoutException ex
+    ) {
+        ErrorResponse response = ErrorResponse.of(
+            "SOLVER_TIMEOUT",
+            ex.getMessage()
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
+    }
+
+    @ExceptionHandler(SolverBusyException.class)
+    public ResponseEntity<ErrorResponse> handleSolverBusy(
+        SolverBusyException ex
+    ) {
+        ErrorResponse response = ErrorResponse.of(
+            "SOLVER_BUSY",
+            ex.getMessage()
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(response);
+    }
+
+    @ExceptionHandler(JobNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleJobNotFound(JobNotFoundException ex) {
+        ErrorResponse response = ErrorResponse.of(
+            "JOB_NOT_FOUND",
+            ex.getMessage()
+        );
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+    }
+
     @ExceptionHandler(NoResourceFoundException.class)
     public ResponseEntity<ErrorResponse> handleNoResourceFound(NoResourceFoundException ex) {
         ErrorResponse response = ErrorResponse.of(
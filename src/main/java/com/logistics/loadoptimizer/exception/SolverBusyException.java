@@ -0,0 +1,7 @@
+package com.logistics.loadoptimizer.exception;
+
+public class SolverBusyException extends RuntimeException {
+    public SolverBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.logistics.loadoptimizer.exception;
+
+public class SolverTimeoutException extends RuntimeException {
+    public SolverTimeoutException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,6 @@
+package com.logistics.loadoptimizer.model;
+
+public enum JobPriority {
+    INTERACTIVE,
+    BATCH
+}
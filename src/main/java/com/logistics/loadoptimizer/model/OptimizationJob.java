@@ -0,0 +1,42 @@
+package com.logistics.loadoptimizer.model;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Asynchronous solve tracked by the job scheduler. Status fields are written by the
+ * worker thread and read by pollers, hence volatile.
+ */
+@Getter
+public class OptimizationJob {
+    private final String id;
+    private final JobPriority priority;
+    private final long estimatedCost;
+    private final Truck truck;
+    private final List<Order> orders;
+    private final Instant submittedAt;
+
+    @Setter
+    private volatile JobStatus status = JobStatus.QUEUED;
+    @Setter
+    private volatile Instant startedAt;
+    @Setter
+    private volatile Instant finishedAt;
+    @Setter
+    private volatile OptimizationResult result;
+    @Setter
+    private volatile String errorMessage;
+
+    public OptimizationJob(String id, JobPriority priority, long estimatedCost,
+                           Truck truck, List<Order> orders) {
+        this.id = id;
+        this.priority = priority;
+        this.estimatedCost = estimatedCost;
+        this.truck = truck;
+        this.orders = orders;
+        this.submittedAt = Instant.now();
+    }
+}
@@ -16,6 +16,8 @@ public class OptimizationResult {
     private Long totalPayoutCents;
     private Integer totalWeightLbs;
     private Integer totalVolumeCuft;
+    private SolveStats stats;
+    private SolveTrace trace;
 
     public boolean isEmpty() {
         return selectedOrders == null || selectedOrders.isEmpty();
@@ -0,0 +1,23 @@
+package com.logistics.loadoptimizer.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RouteGroupTrace {
+    private String routeKey;
+    private int orderCount;
+    private int hazmatCount;
+    private String algorithm;
+    private String worker;
+    private long statesVisited;
+    private long prunedStates;
+    private long payoutCents;
+    private boolean hazmatChosen;
+    private long elapsedMicros;
+}
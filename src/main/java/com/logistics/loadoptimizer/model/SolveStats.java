@@ -0,0 +1,23 @@
+package com.logistics.loadoptimizer.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Subset-search counters with the same meaning in every engine, over the 2^n subsets of
+ * an n-order board: {@code statesVisited} is the number of subsets that fit the truck
+ * (the empty load included) and {@code prunedStates} the number proven not to fit,
+ * whether checked directly or skipped because they contain a subset that does not fit.
+ * The two always sum to 2^n.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SolveStats {
+    private String algorithm;
+    private long statesVisited;
+    private long prunedStates;
+}
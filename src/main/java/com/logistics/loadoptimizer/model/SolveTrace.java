@@ -0,0 +1,21 @@
+package com.logistics.loadoptimizer.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SolveTrace {
+    private int orderCount;
+    private int routeGroupCount;
+    private int largestRouteGroup;
+    private String chosenRouteKey;
+    private long elapsedMicros;
+    private List<RouteGroupTrace> routeGroups;
+}
@@ -0,0 +1,42 @@
+package com.logistics.loadoptimizer.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.logistics.loadoptimizer.Optimization")
+@Label("Optimization")
+@Category({"Load Optimizer"})
+@Description("One solve across all route groups of a board")
+@StackTrace(false)
+public class OptimizationEvent extends Event {
+
+    @Label("Truck ID")
+    public String truckId;
+
+    @Label("Order Count")
+    public int orderCount;
+
+    @Label("Route Group Count")
+    public int routeGroupCount;
+
+    @Label("Largest Route Group")
+    public int largestRouteGroup;
+
+    @Label("States Visited")
+    @Description("Non-hazmat subsets that fit the truck, summed over route groups")
+    public long statesVisited;
+
+    @Label("Pruned States")
+    @Description("Non-hazmat subsets proven over capacity, summed over route groups")
+    public long prunedStates;
+
+    @Label("Chosen Route Key")
+    public String chosenRouteKey;
+
+    @Label("Payout Cents")
+    public long payoutCents;
+}
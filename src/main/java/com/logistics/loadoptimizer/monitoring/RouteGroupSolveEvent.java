@@ -0,0 +1,42 @@
+package com.logistics.loadoptimizer.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.logistics.loadoptimizer.RouteGroupSolve")
+@Label("Route Group Solve")
+@Category({"Load Optimizer"})
+@Description("Hazmat scan plus subset search for one route group")
+@StackTrace(false)
+public class RouteGroupSolveEvent extends Event {
+
+    @Label("Route Key")
+    public String routeKey;
+
+    @Label("Order Count")
+    public int orderCount;
+
+    @Label("Hazmat Count")
+    public int hazmatCount;
+
+    @Label("Algorithm")
+    public String algorithm;
+
+    @Label("States Visited")
+    @Description("Non-hazmat subsets that fit the truck")
+    public long statesVisited;
+
+    @Label("Pruned States")
+    @Description("Non-hazmat subsets proven over capacity")
+    public long prunedStates;
+
+    @Label("Payout Cents")
+    public long payoutCents;
+
+    @Label("Hazmat Chosen")
+    public boolean hazmatChosen;
+}
@@ -0,0 +1,22 @@
+package com.logistics.loadoptimizer.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.logistics.loadoptimizer.SolvePhase")
+@Label("Solve Phase")
+@Category({"Load Optimizer"})
+@Description("Request-level phase such as validation or route grouping")
+@StackTrace(false)
+public class SolvePhaseEvent extends Event {
+
+    @Label("Phase")
+    public String phase;
+
+    @Label("Order Count")
+    public int orderCount;
+}
@@ -0,0 +1,74 @@
+package com.logistics.loadoptimizer.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Consistent hash ring with virtual nodes. {@link #preferenceList(String)} walks the
+ * ring clockwise from the key, so the first entry is the owner and later entries are
+ * the stable fallbacks used when the owner is slow or down.
+ */
+public class ConsistentHashRing {
+
+    private final TreeMap<Long, String> ring = new TreeMap<>();
+    private final int nodeCount;
+
+    public ConsistentHashRing(Collection<String> nodes, int virtualNodes) {
+        Set<String> distinct = new LinkedHashSet<>(nodes);
+        for (String node : distinct) {
+            for (int i = 0; i < virtualNodes; i++) {
+                ring.put(hash(node + "#" + i), node);
+            }
+        }
+        this.nodeCount = distinct.size();
+    }
+
+    public List<String> preferenceList(String key) {
+        List<String> result = new ArrayList<>(nodeCount);
+        if (ring.isEmpty()) {
+            return result;
+        }
+
+        long h = hash(key);
+        SortedMap<Long, String> tail = ring.tailMap(h);
+        collect(tail, result);
+        if (result.size() < nodeCount) {
+            collect(ring.headMap(h), result);
+        }
+        return result;
+    }
+
+    private void collect(SortedMap<Long, String> section, List<String> result) {
+        for (Map.Entry<Long, String> entry : section.entrySet()) {
+            if (!result.contains(entry.getValue())) {
+                result.add(entry.getValue());
+                if (result.size() == nodeCount) {
+                    return;
+                }
+            }
+        }
+    }
+
+    static long hash(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5")
+                .digest(value.getBytes(StandardCharsets.UTF_8));
+            long h = 0;
+            for (int i = 0; i < 8; i++) {
+                h = (h << 8) | (digest[i] & 0xFF);
+            }
+            return h;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 not available", e);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.logistics.loadoptimizer.service;
+
+import com.logistics.loadoptimizer.algorithm.CapacityIndex;
+import com.logistics.loadoptimizer.exception.InvalidInputException;
+import com.logistics.loadoptimizer.model.Order;
+import com.logistics.loadoptimizer.model.Truck;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Answers "best load for each truck class" on one order board with a single
+ * {@link CapacityIndex} build, applying the same route and hazmat rules as
+ * {@link LoadOptimizerService}.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FleetSizingService {
+
+    private final ValidationService validationService;
+    private final RouteCompatibilityService routeCompatibilityService;
+
+    @Value("${optimizer.fleet.max-frontier:100000}")
+    private int maxFrontier = 100_000;
+
+    public CapacityIndex buildIndex(List<Truck> trucks, List<Order> orders) {
+        if (trucks == null || trucks.isEmpty()) {
+            throw new InvalidInputException("At least one truck is required");
+        }
+        trucks.forEach(validationService::validateTruck);
+        validationService.validateOrders(orders);
+
+        int maxWeight = trucks.stream().mapToInt(Truck::getMaxWeightLbs).max().getAsInt();
+        int maxVolume = trucks.stream().mapToInt(Truck::getMaxVolumeCuft).max().getAsInt();
+        CapacityIndex.Builder builder = CapacityIndex.builder(maxWeight, maxVolume, maxFrontier);
+
+        for (List<Order> group : routeCompatibilityService.groupByRoute(orders).values()) {
+            List<Order> nonHazmatOrders = new ArrayList<>();
+            for (Order order : group) {
+                if (Boolean.TRUE.equals(order.getIsHazmat())) {
+                    builder.addSingle(order);
+                } else {
+                    nonHazmatOrders.add(order);
+                }
+            }
+            builder.addSubsetsOf(nonHazmatOrders);
+        }
+
+        CapacityIndex index = builder.build();
+        log.debug("Capacity index built: trucks={} orders={} frontier={}",
+            trucks.size(), orders.size(), index.size());
+        return index;
+    }
+}
@@ -3,7 +3,13 @@ package com.logistics.loadoptimizer.service;
 import com.logistics.loadoptimizer.algorithm.OptimizationAlgorithm;
 import com.logistics.loadoptimizer.model.OptimizationResult;
 import com.logistics.loadoptimizer.model.Order;
+import com.logistics.loadoptimizer.model.RouteGroupTrace;
+import com.logistics.loadoptimizer.model.SolveStats;
+import com.logistics.loadoptimizer.model.SolveTrace;
 import com.logistics.loadoptimizer.model.Truck;
+import com.logistics.loadoptimizer.monitoring.OptimizationEvent;
+import com.logistics.loadoptimizer.monitoring.RouteGroupSolveEvent;
+import com.logistics.loadoptimizer.monitoring.SolvePhaseEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -18,13 +24,24 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class LoadOptimizerService {
 
+    private static final String HAZMAT_ALGORITHM = "single-hazmat";
+
     private final OptimizationAlgorithm optimizationAlgorithm;
     private final ValidationService validationService;
     private final RouteCompatibilityService routeCompatibilityService;
+    private final SolveCoalescer solveCoalescer;
+    private final ShardCoordinator shardCoordinator;
 
     public OptimizationResult optimize(Truck truck, List<Order> orders) {
+        SolvePhaseEvent validation = new SolvePhaseEvent();
+        validation.begin();
               validationService.validateTruck(truck);
         validationService.validateOrders(orders);
+        if (validation.shouldCommit()) {
+            validation.phase = "validate";
+            validation.orderCount = orders.size();
+            validation.commit();
+        }
 
         if (orders.isEmpty()) {
             log.info("No orders provided for optimization");
@@ -32,23 +49,95 @@ public class LoadOptimizerService {
             return empty;
         }
 
+        return solveCoalescer.execute(truck, orders, () -> solve(truck, orders, true));
+    }
+
+    /**
+     * Solves every route group on the calling thread with the local engine, bypassing
+     * coalescing and shard workers. Used by the startup warm-up so synthetic boards compile
+     * this JVM's hot paths and never reach the solve counters or a worker.
+     */
+    public OptimizationResult solveLocally(Truck truck, List<Order> orders) {
+        validationService.validateTruck(truck);
+        validationService.validateOrders(orders);
+        return orders.isEmpty() ? createEmptyResult() : solve(truck, orders, false);
+    }
+
+    private OptimizationResult solve(Truck truck, List<Order> orders, boolean allowSharding) {
+        long start = System.nanoTime();
+        OptimizationEvent event = new OptimizationEvent();
+        event.begin();
+
+        SolvePhaseEvent grouping = new SolvePhaseEvent();
+        grouping.begin();
         Map<String, List<Order>> routeGroups =
             routeCompatibilityService.groupByRoute(orders);
+        if (grouping.shouldCommit()) {
+            grouping.phase = "group-by-route";
+            grouping.orderCount = orders.size();
+            grouping.commit();
+        }
 
         OptimizationResult bestResult = createEmptyResult();
+        String chosenRouteKey = null;
+        List<RouteGroupTrace> groupTraces = new ArrayList<>(routeGroups.size());
 
-        for (Map.Entry<String, List<Order>> entry : routeGroups.entrySet()) {
-            OptimizationResult result = optimizeRouteGroup(
-                truck, entry.getValue());
-
+        for (OptimizationResult result : solveRouteGroups(truck, routeGroups, allowSharding)) {
+            RouteGroupTrace groupTrace = result.getTrace().getRouteGroups().get(0);
+            groupTraces.add(groupTrace);
             if (result.getTotalPayoutCents() > bestResult.getTotalPayoutCents()) {
                 bestResult = result;
+                chosenRouteKey = groupTrace.getRouteKey();
             }
         }
+
+        int largestRouteGroup = routeGroups.values().stream().mapToInt(List::size).max().orElse(0);
+        bestResult.setTrace(SolveTrace.builder()
+            .orderCount(orders.size())
+            .routeGroupCount(routeGroups.size())
+            .largestRouteGroup(largestRouteGroup)
+            .chosenRouteKey(chosenRouteKey)
+            .elapsedMicros((System.nanoTime() - start) / 1_000)
+            .routeGroups(groupTraces)
+            .build());
+
+        if (event.shouldCommit()) {
+            event.truckId = truck.getId();
+            event.orderCount = orders.size();
+            event.routeGroupCount = routeGroups.size();
+            event.largestRouteGroup = largestRouteGroup;
+            event.statesVisited = groupTraces.stream().mapToLong(RouteGroupTrace::getStatesVisited).sum();
+            event.prunedStates = groupTraces.stream().mapToLong(RouteGroupTrace::getPrunedStates).sum();
+            event.chosenRouteKey = chosenRouteKey;
+            event.payoutCents = bestResult.getTotalPayoutCents();
+            event.commit();
+        }
         return bestResult;
     }
 
+    private List<OptimizationResult> solveRouteGroups(
+        Truck truck, Map<String, List<Order>> routeGroups, boolean allowSharding
+    ) {
+        if (allowSharding && shardCoordinator.isEnabled()) {
+            return shardCoordinator.solveGroups(
+                truck, routeGroups, group -> optimizeRouteGroup(truck, group));
+        }
+
+        List<OptimizationResult> results = new ArrayList<>(routeGroups.size());
+        for (Map.Entry<String, List<Order>> entry : routeGroups.entrySet()) {
+            results.add(optimizeRouteGroup(truck, entry.getValue()));
+        }
+        return results;
+    }
+
+    /**
+     * Solves one route group; the returned result carries a single-group trace so local,
+     * remote and fallback solves can be combined uniformly.
+     */
     private OptimizationResult optimizeRouteGroup(Truck truck, List<Order> orders) {
+        long start = System.nanoTime();
+        RouteGroupSolveEvent event = new RouteGroupSolveEvent();
+        event.begin();
         log.debug("ENTER optimizeRouteGroup routeKey={} size={}",
             orders.isEmpty() ? "none" : orders.get(0).getRouteKey(), orders.size());
         List<Order> hazmatOrders = new ArrayList<>();
@@ -66,8 +155,43 @@ public class LoadOptimizerService {
         OptimizationResult bestNonHazmat = optimizationAlgorithm.optimize(
             nonHazmatOrders, truck.getMaxWeightLbs(), truck.getMaxVolumeCuft());
 
-        OptimizationResult chosen = bestHazmat.getTotalPayoutCents() > bestNonHazmat.getTotalPayoutCents()
-            ? bestHazmat : bestNonHazmat;
+        boolean hazmatChosen = bestHazmat.getTotalPayoutCents() > bestNonHazmat.getTotalPayoutCents();
+        OptimizationResult chosen = hazmatChosen ? bestHazmat : bestNonHazmat;
+
+        SolveStats stats = bestNonHazmat.getStats() != null
+            ? bestNonHazmat.getStats() : new SolveStats("unknown", 0, 0);
+        RouteGroupTrace trace = RouteGroupTrace.builder()
+            .routeKey(orders.isEmpty() ? null : orders.get(0).getRouteKey())
+            .orderCount(orders.size())
+            .hazmatCount(hazmatOrders.size())
+            .algorithm(hazmatOrders.isEmpty()
+                ? stats.getAlgorithm() : stats.getAlgorithm() + "+" + HAZMAT_ALGORITHM)
+            .statesVisited(stats.getStatesVisited())
+            .prunedStates(stats.getPrunedStates())
+            .payoutCents(chosen.getTotalPayoutCents())
+            .hazmatChosen(hazmatChosen)
+            .elapsedMicros((System.nanoTime() - start) / 1_000)
+            .build();
+        chosen.setTrace(SolveTrace.builder()
+            .orderCount(orders.size())
+            .routeGroupCount(1)
+            .largestRouteGroup(orders.size())
+            .chosenRouteKey(trace.getRouteKey())
+            .elapsedMicros(trace.getElapsedMicros())
+            .routeGroups(List.of(trace))
+            .build());
+
+        if (event.shouldCommit()) {
+            event.routeKey = trace.getRouteKey();
+            event.orderCount = trace.getOrderCount();
+            event.hazmatCount = trace.getHazmatCount();
+            event.algorithm = trace.getAlgorithm();
+            event.statesVisited = trace.getStatesVisited();
+            event.prunedStates = trace.getPrunedStates();
+            event.payoutCents = trace.getPayoutCents();
+            event.hazmatChosen = hazmatChosen;
+            event.commit();
+        }
 
         log.debug("EXIT optimizeRouteGroup routeKey={} chosenPayout={}",
             orders.isEmpty() ? "none" : orders.get(0).getRouteKey(),
@@ -0,0 +1,299 @@
+package com.logistics.loadoptimizer.service;
+
+import com.logistics.loadoptimizer.dto.request.OptimizationRequest;
+import com.logistics.loadoptimizer.dto.request.OrderDto;
+import com.logistics.loadoptimizer.dto.request.TruckDto;
+import com.logistics.loadoptimizer.dto.response.ErrorResponse;
+import com.logistics.loadoptimizer.dto.response.OptimizationResponse;
+import com.logistics.loadoptimizer.dto.response.SolveExplanation;
+import com.logistics.loadoptimizer.exception.InvalidInputException;
+import com.logistics.loadoptimizer.exception.PayloadTooLargeException;
+import com.logistics.loadoptimizer.model.OptimizationResult;
+import com.logistics.loadoptimizer.model.Order;
+import com.logistics.loadoptimizer.model.RouteGroupTrace;
+import com.logistics.loadoptimizer.model.SolveTrace;
+import com.logistics.loadoptimizer.model.Truck;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Coordinator mode: route groups are independent, so each one is sent to a worker
+ * instance's {@code /optimize} endpoint as a single-lane board. Workers are picked by
+ * consistent hashing on the lane to keep worker-side caches warm. A worker that times
+ * out, refuses the connection, answers 5xx or any 4xx other than 400/413, or returns a
+ * malformed body is marked down for a cool-down period and the shard moves to the next
+ * worker on the ring, finally falling back to a local solve. A 400 or 413 means the board
+ * itself was rejected, so it is rethrown to the caller: every other worker would reject
+ * it too.
+ */
+@Slf4j
+@Component
+public class ShardCoordinator {
+
+    // explain=true so the worker's route-group trace can be merged into ours
+    private static final String OPTIMIZE_EXPLAIN_URI = "/api/v1/load-optimizer/optimize?explain=true";
+
+    private final List<String> workers;
+    private final ConsistentHashRing ring;
+    private final RestClient restClient;
+    private final ExecutorService dispatcher;
+    private final Map<String, Long> downUntil = new ConcurrentHashMap<>();
+
+    @Value("${optimizer.sharding.min-group-size:12}")
+    private int minGroupSize;
+
+    @Value("${optimizer.sharding.down-cooldown-ms:10000}")
+    private long downCooldownMs;
+
+    public ShardCoordinator(
+        @Value("${optimizer.sharding.workers:}") List<String> workers,
+        @Value("${optimizer.sharding.virtual-nodes:64}") int virtualNodes,
+        @Value("${optimizer.sharding.connect-timeout-ms:500}") long connectTimeoutMs,
+        @Value("${optimizer.sharding.request-timeout-ms:5000}") long requestTimeoutMs,
+        @Value("${optimizer.sharding.dispatch-threads:16}") int dispatchThreads
+    ) {
+        this.workers = workers.stream()
+            .map(String::trim)
+            .filter(w -> !w.isEmpty())
+            .collect(Collectors.toList());
+        this.ring = new ConsistentHashRing(this.workers, virtualNodes);
+
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(
+            HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .build());
+        requestFactory.setReadTimeout(Duration.ofMillis(requestTimeoutMs));
+        this.restClient = RestClient.builder().requestFactory(requestFactory).build();
+
+        AtomicInteger counter = new AtomicInteger();
+        // Bounded: remote shards beyond dispatch-threads queue rather than spawn threads
+        this.dispatcher = Executors.newFixedThreadPool(dispatchThreads, r -> {
+            Thread thread = new Thread(r, "shard-dispatch-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        if (!this.workers.isEmpty()) {
+            log.info("Coordinator mode enabled: workers={}", this.workers);
+        }
+    }
+
+    public boolean isEnabled() {
+        return !workers.isEmpty();
+    }
+
+    /**
+     * Solves every route group, remotely where worthwhile, and returns one result per
+     * group. {@code localSolver} is used for small groups, which run on the calling thread
+     * while remote shards are in flight, and as the last fallback.
+     */
+    public List<OptimizationResult> solveGroups(
+        Truck truck,
+        Map<String, List<Order>> routeGroups,
+        Function<List<Order>, OptimizationResult> localSolver
+    ) {
+        List<Future<OptimizationResult>> futures = new ArrayList<>(routeGroups.size());
+        List<FutureTask<OptimizationResult>> localTasks = new ArrayList<>();
+        for (Map.Entry<String, List<Order>> entry : routeGroups.entrySet()) {
+            String lane = entry.getKey();
+            List<Order> group = entry.getValue();
+            if (group.size() < minGroupSize) {
+                FutureTask<OptimizationResult> task = new FutureTask<>(() -> localSolver.apply(group));
+                localTasks.add(task);
+                futures.add(task);
+            } else {
+                futures.add(dispatcher.submit(() -> solveShard(truck, lane, group, localSolver)));
+            }
+        }
+
+        List<OptimizationResult> results = new ArrayList<>(futures.size());
+        try {
+            localTasks.forEach(FutureTask::run);
+            for (Future<OptimizationResult> future : futures) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(f -> f.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for shards");
+        } catch (ExecutionException e) {
+            futures.forEach(f -> f.cancel(true));
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Shard solve failed", e.getCause());
+        }
+        return results;
+    }
+
+    private OptimizationResult solveShard(
+        Truck truck,
+        String lane,
+        List<Order> group,
+        Function<List<Order>, OptimizationResult> localSolver
+    ) {
+        for (String worker : candidates(lane)) {
+            try {
+                OptimizationResult result = solveRemote(worker, lane, truck, group);
+                downUntil.remove(worker);
+                return result;
+            } catch (HttpClientErrorException e) {
+                if (isBoardRejection(e)) {
+                    throw rejected(e);
+                }
+                // 404/405/429 and the like say nothing about the board, only about this worker
+                markDown(worker, lane, group, e);
+            } catch (RestClientException | MalformedResponseException e) {
+                // Timeouts, refused connections, 5xx and bodies cut off mid-read
+                markDown(worker, lane, group, e);
+            }
+        }
+
+        log.warn("No worker available for lane={}, solving locally", lane);
+        return localSolver.apply(group);
+    }
+
+    private void markDown(String worker, String lane, List<Order> group, RuntimeException e) {
+        log.warn("Shard failed on worker={} lane={} size={}: {}",
+            worker, lane, group.size(), e.getMessage());
+        downUntil.put(worker, System.currentTimeMillis() + downCooldownMs);
+    }
+
+    private List<String> candidates(String lane) {
+        long now = System.currentTimeMillis();
+        List<String> preferred = ring.preferenceList(lane);
+        List<String> healthy = preferred.stream()
+            .filter(w -> downUntil.getOrDefault(w, 0L) <= now)
+            .collect(Collectors.toList());
+        // If every worker is cooling down, still try them in ring order
+        return healthy.isEmpty() ? preferred : healthy;
+    }
+
+    private OptimizationResult solveRemote(String worker, String lane, Truck truck, List<Order> group) {
+        OptimizationResponse response = restClient.post()
+            .uri(worker + OPTIMIZE_EXPLAIN_URI)
+            .body(toRequest(truck, group))
+            .retrieve()
+            .body(OptimizationResponse.class);
+
+        if (response == null || response.getSelectedOrderIds() == null) {
+            throw new MalformedResponseException("Empty response from worker");
+        }
+
+        Map<String, Order> byId = group.stream()
+            .collect(Collectors.toMap(Order::getId, Function.identity()));
+        List<Order> selected = new ArrayList<>(response.getSelectedOrderIds().size());
+        for (String id : response.getSelectedOrderIds()) {
+            Order order = byId.get(id);
+            if (order == null) {
+                throw new MalformedResponseException("Worker returned unknown order id " + id);
+            }
+            selected.add(order);
+        }
+
+        SolveExplanation explain = response.getExplain();
+        RouteGroupTrace trace = explain != null && explain.getRouteGroups() != null
+            && explain.getRouteGroups().size() == 1
+            ? explain.getRouteGroups().get(0).toTrace()
+            : RouteGroupTrace.builder()
+                .routeKey(lane)
+                .orderCount(group.size())
+                .algorithm("remote")
+                .payoutCents(response.getTotalPayoutCents())
+                .build();
+        trace.setWorker(worker);
+
+        return OptimizationResult.builder()
+            .selectedOrders(selected)
+            .totalPayoutCents(response.getTotalPayoutCents())
+            .totalWeightLbs(response.getTotalWeightLbs())
+            .totalVolumeCuft(response.getTotalVolumeCuft())
+            .trace(SolveTrace.builder()
+                .orderCount(group.size())
+                .routeGroupCount(1)
+                .largestRouteGroup(group.size())
+                .chosenRouteKey(lane)
+                .elapsedMicros(trace.getElapsedMicros())
+                .routeGroups(List.of(trace))
+                .build())
+            .build();
+    }
+
+    private static boolean isBoardRejection(HttpClientErrorException e) {
+        return e.getStatusCode().isSameCodeAs(HttpStatus.BAD_REQUEST)
+            || e.getStatusCode().isSameCodeAs(HttpStatus.CONTENT_TOO_LARGE);
+    }
+
+    /**
+     * Maps a worker's 400 or 413 back onto the exception the worker raised, so the caller
+     * gets the same status and message as a local solve would have produced.
+     */
+    private static RuntimeException rejected(HttpClientErrorException e) {
+        ErrorResponse body = null;
+        try {
+            body = e.getResponseBodyAs(ErrorResponse.class);
+        } catch (RuntimeException ignored) {
+            // Not our error format; fall back to the status text
+        }
+        String message = body != null && body.getMessage() != null ? body.getMessage() : e.getStatusText();
+
+        if (e.getStatusCode().isSameCodeAs(HttpStatus.CONTENT_TOO_LARGE)) {
+            return new PayloadTooLargeException(message);
+        }
+        return body != null && body.getDetails() != null
+            ? new InvalidInputException(message, body.getDetails())
+            : new InvalidInputException(message);
+    }
+
+    private OptimizationRequest toRequest(Truck truck, List<Order> group) {
+        TruckDto truckDto = new TruckDto(
+            truck.getId(), truck.getMaxWeightLbs(), truck.getMaxVolumeCuft());
+        List<OrderDto> orderDtos = group.stream()
+            .map(o -> new OrderDto(
+                o.getId(),
+                o.getPayoutCents(),
+                o.getWeightLbs(),
+                o.getVolumeCuft(),
+                o.getOrigin(),
+                o.getDestination(),
+                o.getPickupDate(),
+                o.getDeliveryDate(),
+                o.getIsHazmat()))
+            .collect(Collectors.toList());
+        return new OptimizationRequest(truckDto, orderDtos);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+    }
+
+    private static class MalformedResponseException extends RuntimeException {
+        MalformedResponseException(String message) {
+            super(message);
+        }
+    }
+}
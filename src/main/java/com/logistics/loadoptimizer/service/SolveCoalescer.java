@@ -0,0 +1,152 @@
+package com.logistics.loadoptimizer.service;
+
+import com.logistics.loadoptimizer.exception.SolverTimeoutException;
+import com.logistics.loadoptimizer.model.OptimizationResult;
+import com.logistics.loadoptimizer.model.Order;
+import com.logistics.loadoptimizer.model.Truck;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight deduplication of identical in-flight solves. The first caller for a
+ * fingerprint runs the solve on its own thread; concurrent callers with the same
+ * fingerprint wait on the shared future and receive the same result or error. If the
+ * leading solve is cancelled by its own caller, waiters retry rather than inherit it.
+ */
+@Slf4j
+@Component
+public class SolveCoalescer {
+
+    // ASCII unit/record separators cannot collide with commas in city names
+    private static final char FIELD_SEP = '\u001F';
+    private static final char RECORD_SEP = '\u001E';
+
+    private final ConcurrentMap<String, CompletableFuture<OptimizationResult>> inFlight =
+        new ConcurrentHashMap<>();
+
+    private final Counter executedSolves;
+    private final Counter coalescedSolves;
+
+    @Value("${optimizer.coalescing.enabled:true}")
+    private boolean enabled;
+
+    @Value("${optimizer.coalescing.wait-timeout-ms:30000}")
+    private long waitTimeoutMs;
+
+    public SolveCoalescer(MeterRegistry meterRegistry) {
+        this.executedSolves = Counter.builder("optimizer.solves.executed")
+            .description("Solves actually run by this instance")
+            .register(meterRegistry);
+        this.coalescedSolves = Counter.builder("optimizer.solves.coalesced")
+            .description("Solves saved by joining an identical in-flight request")
+            .register(meterRegistry);
+    }
+
+    public OptimizationResult execute(Truck truck, List<Order> orders,
+                                      Supplier<OptimizationResult> solver) {
+        if (!enabled) {
+            executedSolves.increment();
+            return solver.get();
+        }
+
+        String key = fingerprint(truck, orders);
+        while (true) {
+            CompletableFuture<OptimizationResult> mine = new CompletableFuture<>();
+            CompletableFuture<OptimizationResult> shared = inFlight.putIfAbsent(key, mine);
+
+            if (shared == null) {
+                return lead(key, mine, solver);
+            }
+
+            log.debug("Joining in-flight solve for truckId={} orders={}",
+                truck.getId(), orders.size());
+            OptimizationResult result = await(shared);
+            if (result != null) {
+                coalescedSolves.increment();
+                return result;
+            }
+            // The leader was cancelled by its own caller; retry so one waiter takes over
+        }
+    }
+
+    private OptimizationResult lead(String key, CompletableFuture<OptimizationResult> mine,
+                                    Supplier<OptimizationResult> solver) {
+        executedSolves.increment();
+        // The key is released before the future completes: a waiter woken by a cancelled
+        // leader must not find the same dead future again when it retries
+        OptimizationResult result;
+        try {
+            result = solver.get();
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(key, mine);
+            mine.completeExceptionally(e);
+            throw e;
+        }
+        inFlight.remove(key, mine);
+        mine.complete(result);
+        return result;
+    }
+
+    private OptimizationResult await(CompletableFuture<OptimizationResult> shared) {
+        try {
+            return shared.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new SolverTimeoutException(
+                "Timed out after " + waitTimeoutMs + " ms waiting for an identical in-flight solve");
+        } catch (InterruptedException e) {
+            // Only this waiter gives up; the shared solve keeps running for the others
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for an in-flight solve");
+        } catch (CancellationException e) {
+            return null;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof CancellationException) {
+                return null;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("In-flight solve failed", cause);
+        }
+    }
+
+    /**
+     * Canonical fingerprint of everything that affects the solve: truck capacity and the
+     * order board independent of submission order. The truck id is deliberately excluded.
+     */
+    static String fingerprint(Truck truck, List<Order> orders) {
+        StringBuilder sb = new StringBuilder(64 + orders.size() * 96);
+        sb.append(truck.getMaxWeightLbs()).append(FIELD_SEP).append(truck.getMaxVolumeCuft());
+        orders.stream()
+            .sorted(Comparator.comparing(Order::getId))
+            .forEach(o -> sb.append(RECORD_SEP)
+                .append(o.getId()).append(FIELD_SEP)
+                .append(o.getPayoutCents()).append(FIELD_SEP)
+                .append(o.getWeightLbs()).append(FIELD_SEP)
+                .append(o.getVolumeCuft()).append(FIELD_SEP)
+                .append(o.getOrigin()).append(FIELD_SEP)
+                .append(o.getDestination()).append(FIELD_SEP)
+                .append(o.getPickupDate()).append(FIELD_SEP)
+                .append(o.getDeliveryDate()).append(FIELD_SEP)
+                .append(o.getIsHazmat()));
+        return sb.toString();
+    }
+}
@@ -0,0 +1,260 @@
+package com.logistics.loadoptimizer.service;
+
+import com.logistics.loadoptimizer.exception.JobNotFoundException;
+import com.logistics.loadoptimizer.exception.SolverBusyException;
+import com.logistics.loadoptimizer.model.JobPriority;
+import com.logistics.loadoptimizer.model.JobStatus;
+import com.logistics.loadoptimizer.model.OptimizationJob;
+import com.logistics.loadoptimizer.model.Order;
+import com.logistics.loadoptimizer.model.Truck;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process job queue for asynchronous solves. Interactive and batch jobs run on
+ * separate worker pools so cheap interactive work never waits behind an expensive
+ * batch solve. Within a pool jobs are ranked by submission time plus a delay
+ * proportional to their estimated cost, capped at {@code max-aging-delay-ms}: cheaper
+ * jobs overtake expensive ones, but a job is never passed by work submitted more than
+ * the cap after it, so a steady stream of cheap jobs cannot starve it.
+ */
+@Slf4j
+@Service
+public class SolverJobScheduler {
+
+    private final LoadOptimizerService optimizerService;
+    private final ValidationService validationService;
+    private final RouteCompatibilityService routeCompatibilityService;
+
+    private final Map<String, JobTask> jobs = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicInteger pending = new AtomicInteger();
+
+    private final ThreadPoolExecutor interactiveExecutor;
+    private final ThreadPoolExecutor batchExecutor;
+
+    @Value("${optimizer.jobs.batch-cost-threshold:2000000}")
+    private long batchCostThreshold;
+
+    @Value("${optimizer.jobs.max-pending:1000}")
+    private int maxPending;
+
+    @Value("${optimizer.jobs.result-ttl-ms:600000}")
+    private long resultTtlMs;
+
+    @Value("${optimizer.jobs.max-retained:10000}")
+    private int maxRetained;
+
+    @Value("${optimizer.jobs.aging-cost-per-ms:10000}")
+    private long agingCostPerMs;
+
+    @Value("${optimizer.jobs.max-aging-delay-ms:60000}")
+    private long maxAgingDelayMs;
+
+    public SolverJobScheduler(
+        LoadOptimizerService optimizerService,
+        ValidationService validationService,
+        RouteCompatibilityService routeCompatibilityService,
+        @Value("${optimizer.jobs.interactive-workers:2}") int interactiveWorkers,
+        @Value("${optimizer.jobs.batch-workers:2}") int batchWorkers
+    ) {
+        this.optimizerService = optimizerService;
+        this.validationService = validationService;
+        this.routeCompatibilityService = routeCompatibilityService;
+        this.interactiveExecutor = newExecutor("solver-interactive", interactiveWorkers);
+        this.batchExecutor = newExecutor("solver-batch", batchWorkers);
+    }
+
+    public OptimizationJob submit(Truck truck, List<Order> orders, JobPriority requestedPriority) {
+        validationService.validateTruck(truck);
+        validationService.validateOrders(orders);
+        purgeExpired();
+
+        if (pending.incrementAndGet() > maxPending) {
+            pending.decrementAndGet();
+            throw new SolverBusyException("Job queue is full, retry later");
+        }
+
+        long cost = estimateCost(orders);
+        JobPriority priority = requestedPriority != null
+            ? requestedPriority
+            : (cost > batchCostThreshold ? JobPriority.BATCH : JobPriority.INTERACTIVE);
+
+        OptimizationJob job = new OptimizationJob(
+            UUID.randomUUID().toString(), priority, cost, truck, orders);
+        JobTask task = new JobTask(job, rank(job), sequence.incrementAndGet());
+        jobs.put(job.getId(), task);
+
+        log.info("Job submitted: jobId={}, priority={}, estimatedCost={}, orders={}",
+            job.getId(), priority, cost, orders.size());
+        executorFor(priority).execute(task);
+        return job;
+    }
+
+    public OptimizationJob get(String jobId) {
+        purgeExpired();
+        return findTask(jobId).job;
+    }
+
+    public OptimizationJob cancel(String jobId) {
+        JobTask task = findTask(jobId);
+        task.cancel();
+        return task.job;
+    }
+
+    /**
+     * Work estimate in DP state transitions: each route group's non-hazmat subset is
+     * solved in O(2^k * k), hazmat orders are a linear scan.
+     */
+    long estimateCost(List<Order> orders) {
+        long cost = 0;
+        for (List<Order> group : routeCompatibilityService.groupByRoute(orders).values()) {
+            int k = 0;
+            for (Order order : group) {
+                if (!Boolean.TRUE.equals(order.getIsHazmat())) {
+                    k++;
+                }
+            }
+            cost += (1L << k) * Math.max(k, 1) + (group.size() - k);
+        }
+        return cost;
+    }
+
+    /**
+     * Queue position key, fixed at submission so the priority queue's ordering never
+     * changes while a job waits.
+     */
+    private long rank(OptimizationJob job) {
+        long delayMs = Math.min(job.getEstimatedCost() / Math.max(agingCostPerMs, 1), maxAgingDelayMs);
+        return job.getSubmittedAt().toEpochMilli() + delayMs;
+    }
+
+    private JobTask findTask(String jobId) {
+        JobTask task = jobs.get(jobId);
+        if (task == null) {
+            throw new JobNotFoundException("Job not found: " + jobId);
+        }
+        return task;
+    }
+
+    private ThreadPoolExecutor executorFor(JobPriority priority) {
+        return priority == JobPriority.INTERACTIVE ? interactiveExecutor : batchExecutor;
+    }
+
+    private void purgeExpired() {
+        Instant cutoff = Instant.now().minusMillis(resultTtlMs);
+        // finish() sets finishedAt before the status, so a finished job always has one
+        jobs.values().removeIf(t -> t.job.getStatus().isFinished()
+            && t.job.getFinishedAt().isBefore(cutoff));
+
+        int overflow = jobs.size() - maxRetained;
+        if (overflow > 0) {
+            jobs.values().stream()
+                .filter(t -> t.job.getStatus().isFinished())
+                .sorted(Comparator.comparing(t -> t.job.getFinishedAt()))
+                .limit(overflow)
+                .forEach(t -> jobs.remove(t.job.getId()));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        interactiveExecutor.shutdownNow();
+        batchExecutor.shutdownNow();
+    }
+
+    private static ThreadPoolExecutor newExecutor(String name, int workers) {
+        AtomicInteger counter = new AtomicInteger();
+        ThreadFactory threadFactory = r -> {
+            Thread thread = new Thread(r, name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+            new PriorityBlockingQueue<>(), threadFactory);
+    }
+
+    private final class JobTask implements Runnable, Comparable<JobTask> {
+        private final OptimizationJob job;
+        private final long rank;
+        private final long seq;
+        private Thread runner;
+
+        JobTask(OptimizationJob job, long rank, long seq) {
+            this.job = job;
+            this.rank = rank;
+            this.seq = seq;
+        }
+
+        @Override
+        public void run() {
+            synchronized (this) {
+                if (job.getStatus() != JobStatus.QUEUED) {
+                    return;
+                }
+                pending.decrementAndGet();
+                runner = Thread.currentThread();
+                job.setStatus(JobStatus.RUNNING);
+                job.setStartedAt(Instant.now());
+            }
+
+            try {
+                job.setResult(optimizerService.optimize(job.getTruck(), job.getOrders()));
+                finish(JobStatus.COMPLETED);
+            } catch (CancellationException e) {
+                finish(JobStatus.CANCELLED);
+            } catch (RuntimeException e) {
+                log.warn("Job failed: jobId={}", job.getId(), e);
+                job.setErrorMessage(e.getMessage());
+                finish(JobStatus.FAILED);
+            }
+        }
+
+        private void finish(JobStatus status) {
+            synchronized (this) {
+                runner = null;
+                // Clear a cancel interrupt that arrived after the solver's last check
+                Thread.interrupted();
+                job.setFinishedAt(Instant.now());
+                job.setStatus(status);
+            }
+            log.info("Job finished: jobId={}, status={}, elapsedMs={}", job.getId(), status,
+                job.getFinishedAt().toEpochMilli() - job.getStartedAt().toEpochMilli());
+        }
+
+        synchronized void cancel() {
+            JobStatus status = job.getStatus();
+            if (status == JobStatus.QUEUED) {
+                executorFor(job.getPriority()).remove(this);
+                pending.decrementAndGet();
+                job.setFinishedAt(Instant.now());
+                job.setStatus(JobStatus.CANCELLED);
+            } else if (status == JobStatus.RUNNING && runner != null) {
+                // The solver polls the interrupt flag and aborts with CancellationException
+                runner.interrupt();
+            }
+        }
+
+        @Override
+        public int compareTo(JobTask other) {
+            int byRank = Long.compare(rank, other.rank);
+            return byRank != 0 ? byRank : Long.compare(seq, other.seq);
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.logistics.loadoptimizer.exception.PayloadTooLargeException;
 import com.logistics.loadoptimizer.model.Order;
 import com.logistics.loadoptimizer.model.Truck;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
@@ -16,7 +17,8 @@ import java.util.Set;
 @Service
 public class ValidationService {
 
-    private static final int MAX_ORDERS = 22;
+    @Value("${optimizer.max-orders:22}")
+    private int maxOrders = 22;
 
     public void validateTruck(Truck truck) {
         List<String> errors = new ArrayList<>();
@@ -47,8 +49,8 @@ public class ValidationService {
             throw new InvalidInputException("Orders list is required");
         }
 
-        if (orders.size() > MAX_ORDERS) {
-            throw new PayloadTooLargeException("Maximum 22 orders allowed");
+        if (orders.size() > maxOrders) {
+            throw new PayloadTooLargeException("Maximum " + maxOrders + " orders allowed");
         }
 
         List<String> errors = new ArrayList<>();
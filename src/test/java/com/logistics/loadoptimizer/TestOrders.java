@@ -0,0 +1,83 @@
+package com.logistics.loadoptimizer;
+
+import com.logistics.loadoptimizer.model.Order;
+import com.logistics.loadoptimizer.model.Truck;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Shared order, board and truck fixtures. Unless a test says otherwise, orders run on
+ * one lane with a fixed pickup window and no hazmat.
+ */
+public final class TestOrders {
+
+    public static final String ORIGIN = "Los Angeles, CA";
+    public static final String DESTINATION = "Dallas, TX";
+    public static final LocalDate PICKUP = LocalDate.of(2025, 12, 1);
+
+    private TestOrders() {
+    }
+
+    public static Order order(String id, long payoutCents, int weightLbs, int volumeCuft) {
+        return order(id, ORIGIN, DESTINATION, payoutCents, weightLbs, volumeCuft, false);
+    }
+
+    public static Order order(
+        String id,
+        String origin,
+        String destination,
+        long payoutCents,
+        int weightLbs,
+        int volumeCuft,
+        boolean hazmat
+    ) {
+        return Order.builder()
+            .id(id)
+            .payoutCents(payoutCents)
+            .weightLbs(weightLbs)
+            .volumeCuft(volumeCuft)
+            .origin(origin)
+            .destination(destination)
+            .pickupDate(PICKUP)
+            .deliveryDate(PICKUP.plusDays(3))
+            .isHazmat(hazmat)
+            .build();
+    }
+
+    /**
+     * {@code n} identical orders with ids {@code ord-0..ord-(n-1)}.
+     */
+    public static List<Order> uniformBoard(int n, long payoutCents, int weightLbs, int volumeCuft) {
+        List<Order> orders = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            orders.add(order("ord-" + i, payoutCents, weightLbs, volumeCuft));
+        }
+        return orders;
+    }
+
+    /**
+     * {@code n} orders with random payout, weight and volume, sized so a 44,000 lb /
+     * 3,000 cuft truck fits only part of a large board.
+     */
+    public static List<Order> randomBoard(Random random, int n) {
+        List<Order> orders = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            long payoutCents = 10_000L + random.nextInt(300_000);
+            int weightLbs = 1_000 + random.nextInt(15_000);
+            int volumeCuft = 100 + random.nextInt(1_200);
+            orders.add(order("ord-" + i, payoutCents, weightLbs, volumeCuft));
+        }
+        return orders;
+    }
+
+    public static Truck truck(String id) {
+        return truck(id, 44000, 3000);
+    }
+
+    public static Truck truck(String id, int maxWeightLbs, int maxVolumeCuft) {
+        return Truck.builder().id(id).maxWeightLbs(maxWeightLbs).maxVolumeCuft(maxVolumeCuft).build();
+    }
+}
@@ -0,0 +1,144 @@
+package com.logistics.loadoptimizer.algorithm;
+
+import com.logistics.loadoptimizer.exception.PayloadTooLargeException;
+import com.logistics.loadoptimizer.model.OptimizationResult;
+import com.logistics.loadoptimizer.model.Order;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.logistics.loadoptimizer.TestOrders.randomBoard;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class OffHeapDPOptimizerTest {
+
+    private static final int MAX_WEIGHT = 44000;
+    private static final int MAX_VOLUME = 3000;
+    private static final long BUDGET = 1L << 30;
+
+    private final DPBitmaskOptimizer scalar = new DPBitmaskOptimizer();
+    private final List<OffHeapDPOptimizer> engines = new ArrayList<>();
+
+    @BeforeEach
+    void requireForeignApi() {
+        assumeTrue(OffHeapDPOptimizer.FOREIGN_API_AVAILABLE, "jdk.incubator.foreign not resolved");
+    }
+
+    @AfterEach
+    void tearDown() {
+        engines.forEach(OffHeapDPOptimizer::shutdown);
+    }
+
+    @Test
+    void matchesScalarPayoutOnRandomBoards() {
+        OffHeapDPOptimizer offHeap = engine(BUDGET, false);
+        Random random = new Random(42);
+        for (int n = 0; n <= 16; n++) {
+            for (int trial = 0; trial < 3; trial++) {
+                assertMatchesScalar(offHeap, randomBoard(random, n), MAX_WEIGHT, MAX_VOLUME);
+                assertMatchesScalar(offHeap, randomBoard(random, n), 12_000, 900);
+            }
+        }
+        assertEquals(0L, reservedBytes(offHeap));
+    }
+
+    @Test
+    void pooledBlockIsReusedForSmallerBoards() {
+        OffHeapDPOptimizer offHeap = engine(BUDGET, true);
+        Random random = new Random(7);
+
+        assertMatchesScalar(offHeap, randomBoard(random, 14), MAX_WEIGHT, MAX_VOLUME);
+        long reserved = reservedBytes(offHeap);
+        assertEquals(OffHeapDPOptimizer.BYTES_PER_STATE << 14, reserved);
+
+        // Smaller solves run in the same block, over tables left dirty by the larger one
+        for (int n = 13; n >= 8; n--) {
+            assertMatchesScalar(offHeap, randomBoard(random, n), 20_000, 1_500);
+        }
+        assertEquals(reserved, reservedBytes(offHeap));
+        assertEquals(1, idleBlocks(offHeap));
+    }
+
+    @Test
+    void groupNeedingMoreThanTheBudgetIsRejected() {
+        // 16 bytes per state: 2^12 states need 64 KiB
+        OffHeapDPOptimizer offHeap = engine(OffHeapDPOptimizer.BYTES_PER_STATE << 11, false);
+
+        assertThrows(PayloadTooLargeException.class,
+            () -> offHeap.optimize(randomBoard(new Random(1), 12), MAX_WEIGHT, MAX_VOLUME));
+        assertMatchesScalar(offHeap, randomBoard(new Random(1), 11), MAX_WEIGHT, MAX_VOLUME);
+    }
+
+    @Test
+    void replacesTheScalarDpForLargeGroupsWhenVectorIsOff() {
+        OffHeapDPOptimizer offHeap = engine(BUDGET, false);
+        VectorizedDPOptimizer router = new VectorizedDPOptimizer(scalar, offHeap, false);
+        Random random = new Random(3);
+
+        List<Order> large = randomBoard(random, VectorizedDPOptimizer.SCALAR_MAX_ORDERS + 1);
+        OptimizationResult result = assertMatchesScalar(router, large, 12_000, 900);
+        assertEquals(OffHeapDPOptimizer.ALGORITHM, result.getStats().getAlgorithm());
+
+        List<Order> small = randomBoard(random, VectorizedDPOptimizer.SCALAR_MAX_ORDERS);
+        OptimizationResult onHeap = assertMatchesScalar(router, small, 12_000, 900);
+        assertEquals(DPBitmaskOptimizer.ALGORITHM, onHeap.getStats().getAlgorithm());
+    }
+
+    @Test
+    void vectorKernelKeepsLargeGroupsWhenActive() {
+        VectorizedDPOptimizer router = new VectorizedDPOptimizer(scalar, engine(BUDGET, false), true);
+        assumeTrue(router.isActive(), "Vector API not available");
+
+        // 2^28 states would need 4 GiB of off-heap tables, over the 1 GiB budget
+        List<Order> large = randomBoard(new Random(4), 28);
+        OptimizationResult result = router.optimize(large, 12_000, 900);
+
+        assertEquals(VectorizedDPOptimizer.ALGORITHM, result.getStats().getAlgorithm());
+        assertEquals(1L << 28, result.getStats().getStatesVisited() + result.getStats().getPrunedStates());
+        assertTrue(result.getTotalWeightLbs() <= 12_000);
+    }
+
+    private OptimizationResult assertMatchesScalar(OptimizationAlgorithm algorithm, List<Order> orders,
+                                                   int maxWeight, int maxVolume) {
+        OptimizationResult expected = scalar.optimize(orders, maxWeight, maxVolume);
+        OptimizationResult actual = algorithm.optimize(orders, maxWeight, maxVolume);
+
+        String board = "n=" + orders.size() + " capacity=" + maxWeight + "/" + maxVolume;
+        assertEquals(expected.getTotalPayoutCents(), actual.getTotalPayoutCents(), board);
+        assertTrue(actual.getTotalWeightLbs() <= maxWeight, board);
+        assertTrue(actual.getTotalVolumeCuft() <= maxVolume, board);
+        assertEquals(actual.getTotalWeightLbs(), actual.getSelectedOrders().stream()
+            .mapToInt(Order::getWeightLbs).sum(), board);
+        assertEquals(actual.getTotalPayoutCents(), actual.getSelectedOrders().stream()
+            .mapToLong(Order::getPayoutCents).sum(), board);
+        assertEquals(expected.getStats().getStatesVisited(), actual.getStats().getStatesVisited(), board);
+        assertEquals(expected.getStats().getPrunedStates(), actual.getStats().getPrunedStates(), board);
+        return actual;
+    }
+
+    private OffHeapDPOptimizer engine(long budget, boolean pooled) {
+        OffHeapDPOptimizer engine = new OffHeapDPOptimizer(true, budget, pooled);
+        engines.add(engine);
+        return engine;
+    }
+
+    private static long reservedBytes(OffHeapDPOptimizer engine) {
+        Object tables = ReflectionTestUtils.getField(engine, "tables");
+        return ((AtomicLong) ReflectionTestUtils.getField(tables, "reservedBytes")).get();
+    }
+
+    private static int idleBlocks(OffHeapDPOptimizer engine) {
+        Object tables = ReflectionTestUtils.getField(engine, "tables");
+        return ((Collection<?>) ReflectionTestUtils.getField(tables, "idle")).size();
+    }
+}
@@ -0,0 +1,115 @@
+package com.logistics.loadoptimizer.algorithm;
+
+import com.logistics.loadoptimizer.model.OptimizationResult;
+import com.logistics.loadoptimizer.model.Order;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static com.logistics.loadoptimizer.TestOrders.randomBoard;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@Slf4j
+class VectorizedDPOptimizerTest {
+
+    private static final int MAX_WEIGHT = 44000;
+    private static final int MAX_VOLUME = 3000;
+
+    private static final int WARMUP_ITERATIONS = 15;
+    private static final int MEASURED_ITERATIONS = 15;
+
+    private final DPBitmaskOptimizer scalar = new DPBitmaskOptimizer();
+    private final VectorizedDPOptimizer vectorized = new VectorizedDPOptimizer(
+        scalar, new OffHeapDPOptimizer(false, 0L, false), true);
+
+    @Test
+    void matchesScalarPayoutOnRandomBoards() {
+        Random random = new Random(42);
+        for (int n = 1; n <= 14; n++) {
+            for (int trial = 0; trial < 5; trial++) {
+                List<Order> orders = randomBoard(random, n);
+                OptimizationResult expected = scalar.optimize(orders, MAX_WEIGHT, MAX_VOLUME);
+                OptimizationResult actual = vectorized.optimize(orders, MAX_WEIGHT, MAX_VOLUME);
+
+                assertEquals(expected.getTotalPayoutCents(), actual.getTotalPayoutCents());
+                assertTrue(actual.getTotalWeightLbs() <= MAX_WEIGHT);
+                assertTrue(actual.getTotalVolumeCuft() <= MAX_VOLUME);
+                assertEquals(actual.getTotalPayoutCents(), actual.getSelectedOrders().stream()
+                    .mapToLong(Order::getPayoutCents).sum());
+                // Both engines count fitting and over-capacity subsets the same way
+                assertEquals(expected.getStats().getStatesVisited(), actual.getStats().getStatesVisited());
+                assertEquals(1L << n, actual.getStats().getStatesVisited() + actual.getStats().getPrunedStates());
+            }
+        }
+    }
+
+    /**
+     * Large boards under tight capacities: most high-half subsets are over capacity, so
+     * whole low blocks are skipped and the winning low subset is found by locate().
+     */
+    @Test
+    void matchesScalarOnLargeBoardsWithTightCapacity() {
+        int[][] capacities = {{9_000, 700}, {18_000, 1_400}, {30_000, 2_200}};
+        Random random = new Random(2024);
+        for (int n = 18; n <= 22; n += 2) {
+            for (int[] capacity : capacities) {
+                List<Order> orders = randomBoard(random, n);
+                OptimizationResult expected = scalar.optimize(orders, capacity[0], capacity[1]);
+                OptimizationResult actual = vectorized.optimize(orders, capacity[0], capacity[1]);
+
+                String board = "n=" + n + " capacity=" + capacity[0] + "/" + capacity[1];
+                assertEquals(expected.getTotalPayoutCents(), actual.getTotalPayoutCents(), board);
+                assertTrue(actual.getTotalWeightLbs() <= capacity[0], board);
+                assertTrue(actual.getTotalVolumeCuft() <= capacity[1], board);
+                assertEquals(actual.getTotalWeightLbs(), actual.getSelectedOrders().stream()
+                    .mapToInt(Order::getWeightLbs).sum(), board);
+                assertEquals(actual.getTotalVolumeCuft(), actual.getSelectedOrders().stream()
+                    .mapToInt(Order::getVolumeCuft).sum(), board);
+                assertEquals(actual.getTotalPayoutCents(), actual.getSelectedOrders().stream()
+                    .mapToLong(Order::getPayoutCents).sum(), board);
+                assertEquals(expected.getStats().getStatesVisited(), actual.getStats().getStatesVisited(), board);
+                assertEquals(expected.getStats().getPrunedStates(), actual.getStats().getPrunedStates(), board);
+            }
+        }
+    }
+
+    /**
+     * Opt-in timing of both engines; reports the median of {@value #MEASURED_ITERATIONS}
+     * runs after {@value #WARMUP_ITERATIONS} warm-up runs so C2 has compiled both paths.
+     * Run with: mvn test -Dtest=VectorizedDPOptimizerTest -Dbenchmark=true
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void benchmarkAgainstScalar() {
+        assumeTrue(vectorized.isActive(), "Vector API not available");
+        Random random = new Random(7);
+        for (int n = 18; n <= 22; n++) {
+            List<Order> orders = randomBoard(random, n);
+            long scalarNanos = medianNanos(scalar, orders);
+            long vectorNanos = medianNanos(vectorized, orders);
+            log.info("n={} scalar={}us vector={}us speedup={}x", n,
+                scalarNanos / 1_000, vectorNanos / 1_000,
+                String.format("%.1f", (double) scalarNanos / Math.max(vectorNanos, 1)));
+        }
+    }
+
+    private static long medianNanos(OptimizationAlgorithm algorithm, List<Order> orders) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            algorithm.optimize(orders, MAX_WEIGHT, MAX_VOLUME);
+        }
+        long[] samples = new long[MEASURED_ITERATIONS];
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            long start = System.nanoTime();
+            algorithm.optimize(orders, MAX_WEIGHT, MAX_VOLUME);
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[samples.length / 2];
+    }
+}
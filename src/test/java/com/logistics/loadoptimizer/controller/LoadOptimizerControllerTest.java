@@ -0,0 +1,110 @@
+package com.logistics.loadoptimizer.controller;
+
+import com.logistics.loadoptimizer.algorithm.DPBitmaskOptimizer;
+import com.logistics.loadoptimizer.dto.request.OptimizationRequest;
+import com.logistics.loadoptimizer.dto.request.OrderDto;
+import com.logistics.loadoptimizer.dto.request.TruckDto;
+import com.logistics.loadoptimizer.dto.response.OptimizationResponse;
+import com.logistics.loadoptimizer.dto.response.SolveExplanation;
+import com.logistics.loadoptimizer.model.Order;
+import com.logistics.loadoptimizer.service.FleetSizingService;
+import com.logistics.loadoptimizer.service.LoadOptimizerService;
+import com.logistics.loadoptimizer.service.RouteCompatibilityService;
+import com.logistics.loadoptimizer.service.ShardCoordinator;
+import com.logistics.loadoptimizer.service.SolveCoalescer;
+import com.logistics.loadoptimizer.service.SolverJobScheduler;
+import com.logistics.loadoptimizer.service.ValidationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LoadOptimizerControllerTest {
+
+    private static final String[] LOW_PAYING = {"Los Angeles, CA", "Dallas, TX"};
+    private static final String[] HIGH_PAYING = {"Chicago, IL", "Atlanta, GA"};
+    private static final String[] SMALL = {"Seattle, WA", "Denver, CO"};
+
+    private final ValidationService validationService = new ValidationService();
+    private final RouteCompatibilityService routeCompatibilityService = new RouteCompatibilityService();
+    private final ShardCoordinator shardCoordinator = new ShardCoordinator(List.of(), 64, 500, 5000, 16);
+    private final LoadOptimizerService optimizerService = new LoadOptimizerService(
+        new DPBitmaskOptimizer(), validationService, routeCompatibilityService,
+        new SolveCoalescer(new SimpleMeterRegistry()), shardCoordinator);
+    private final SolverJobScheduler jobScheduler = new SolverJobScheduler(
+        optimizerService, validationService, routeCompatibilityService, 1, 1);
+    private final LoadOptimizerController controller = new LoadOptimizerController(
+        optimizerService, jobScheduler,
+        new FleetSizingService(validationService, routeCompatibilityService));
+
+    @AfterEach
+    void tearDown() {
+        jobScheduler.shutdown();
+        shardCoordinator.shutdown();
+    }
+
+    @Test
+    void explainReturnsOneEntryPerRouteGroup() {
+        List<OrderDto> orders = new ArrayList<>();
+        orders.addAll(lane("la", LOW_PAYING, 5, 1, 50_000L));
+        orders.addAll(lane("chi", HIGH_PAYING, 4, 0, 250_000L));
+        orders.addAll(lane("sea", SMALL, 2, 0, 10_000L));
+
+        OptimizationResponse response = controller.optimize(request(orders), true).getBody();
+
+        SolveExplanation explain = response.getExplain();
+        assertEquals(11, explain.getOrderCount());
+        assertEquals(3, explain.getRouteGroupCount());
+        assertEquals(5, explain.getLargestRouteGroup());
+        assertEquals(3, explain.getRouteGroups().size());
+        assertEquals(Set.of(routeKey(LOW_PAYING), routeKey(HIGH_PAYING), routeKey(SMALL)),
+            explain.getRouteGroups().stream()
+                .map(SolveExplanation.RouteGroup::getRouteKey)
+                .collect(Collectors.toSet()));
+
+        assertEquals(routeKey(HIGH_PAYING), explain.getChosenRouteKey());
+        assertTrue(response.getSelectedOrderIds().stream().allMatch(id -> id.startsWith("chi-")));
+
+        for (SolveExplanation.RouteGroup group : explain.getRouteGroups()) {
+            // Hazmat orders are scanned separately and never counted as subset states
+            long subsets = 1L << (group.getOrderCount() - group.getHazmatCount());
+            assertEquals(subsets, group.getStatesVisited() + group.getPrunedStates(), group.getRouteKey());
+        }
+    }
+
+    @Test
+    void explainIsOmittedByDefault() {
+        OptimizationResponse response = controller.optimize(
+            request(lane("la", LOW_PAYING, 3, 0, 50_000L)), false).getBody();
+
+        assertNull(response.getExplain());
+        assertEquals(3, response.getSelectedOrderIds().size());
+    }
+
+    private static OptimizationRequest request(List<OrderDto> orders) {
+        return new OptimizationRequest(new TruckDto("truck-1", 44_000, 3_000), orders);
+    }
+
+    private static List<OrderDto> lane(String prefix, String[] lane, int count, int hazmat, long payout) {
+        LocalDate pickup = LocalDate.of(2025, 12, 1);
+        List<OrderDto> orders = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            orders.add(new OrderDto(prefix + "-" + i, payout + i, 4_000 + 500 * i, 300,
+                lane[0], lane[1], pickup, pickup.plusDays(3), i < hazmat));
+        }
+        return orders;
+    }
+
+    private static String routeKey(String[] lane) {
+        return Order.builder().origin(lane[0]).destination(lane[1]).build().getRouteKey();
+    }
+}
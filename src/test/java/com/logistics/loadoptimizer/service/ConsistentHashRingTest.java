@@ -0,0 +1,83 @@
+package com.logistics.loadoptimizer.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConsistentHashRingTest {
+
+    private static final List<String> NODES = List.of("http://w1", "http://w2", "http://w3");
+
+    @Test
+    void preferenceListWalksTheRingClockwiseAndWraps() {
+        // One point per node, so the expected order can be derived from the point hashes
+        ConsistentHashRing ring = new ConsistentHashRing(NODES, 1);
+        List<String> byPoint = NODES.stream()
+            .sorted(Comparator.comparingLong(n -> ConsistentHashRing.hash(n + "#0")))
+            .collect(Collectors.toList());
+        long lastPoint = ConsistentHashRing.hash(byPoint.get(byPoint.size() - 1) + "#0");
+
+        boolean wrapped = false;
+        for (int i = 0; i < 500; i++) {
+            String key = "lane-" + i;
+            long h = ConsistentHashRing.hash(key);
+            int owner = 0;
+            while (owner < byPoint.size() && ConsistentHashRing.hash(byPoint.get(owner) + "#0") < h) {
+                owner++;
+            }
+            wrapped |= h > lastPoint;
+
+            List<String> expected = new ArrayList<>();
+            for (int k = 0; k < byPoint.size(); k++) {
+                expected.add(byPoint.get((owner + k) % byPoint.size()));
+            }
+            assertEquals(expected, ring.preferenceList(key), key);
+        }
+        assertTrue(wrapped, "no key hashed past the last ring point");
+    }
+
+    @Test
+    void preferenceListIsAStablePermutationOfAllNodes() {
+        ConsistentHashRing ring = new ConsistentHashRing(NODES, 64);
+        ConsistentHashRing reordered = new ConsistentHashRing(
+            List.of(NODES.get(2), NODES.get(0), NODES.get(1), NODES.get(0)), 64);
+
+        for (int i = 0; i < 200; i++) {
+            List<String> preference = ring.preferenceList("lane-" + i);
+            assertEquals(NODES.size(), preference.size());
+            assertEquals(new HashSet<>(NODES), new HashSet<>(preference));
+            assertEquals(preference, reordered.preferenceList("lane-" + i));
+        }
+    }
+
+    @Test
+    void addingANodeOnlyMovesKeysToThatNode() {
+        ConsistentHashRing before = new ConsistentHashRing(NODES, 64);
+        ConsistentHashRing after = new ConsistentHashRing(
+            List.of(NODES.get(0), NODES.get(1), NODES.get(2), "http://w4"), 64);
+
+        int moved = 0;
+        for (int i = 0; i < 1000; i++) {
+            String key = "lane-" + i;
+            String oldOwner = before.preferenceList(key).get(0);
+            String newOwner = after.preferenceList(key).get(0);
+            if (!oldOwner.equals(newOwner)) {
+                assertEquals("http://w4", newOwner, key);
+                moved++;
+            }
+        }
+        assertTrue(moved > 0 && moved < 500, "moved " + moved + " of 1000 keys");
+    }
+
+    @Test
+    void emptyRingHasNoPreference() {
+        assertTrue(new ConsistentHashRing(List.of(), 64).preferenceList("lane").isEmpty());
+    }
+}
@@ -0,0 +1,126 @@
+package com.logistics.loadoptimizer.service;
+
+import com.logistics.loadoptimizer.algorithm.CapacityIndex;
+import com.logistics.loadoptimizer.algorithm.DPBitmaskOptimizer;
+import com.logistics.loadoptimizer.exception.PayloadTooLargeException;
+import com.logistics.loadoptimizer.model.OptimizationResult;
+import com.logistics.loadoptimizer.model.Order;
+import com.logistics.loadoptimizer.model.Truck;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static com.logistics.loadoptimizer.TestOrders.order;
+import static com.logistics.loadoptimizer.TestOrders.truck;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FleetSizingServiceTest {
+
+    private static final String[][] LANES = {
+        {"Los Angeles, CA", "Dallas, TX"},
+        {"Chicago, IL", "Atlanta, GA"},
+        {"Seattle, WA", "Denver, CO"}
+    };
+
+    private final ValidationService validationService = new ValidationService();
+    private final RouteCompatibilityService routeCompatibilityService = new RouteCompatibilityService();
+    private final FleetSizingService fleetSizingService =
+        new FleetSizingService(validationService, routeCompatibilityService);
+    private final ShardCoordinator shardCoordinator = new ShardCoordinator(List.of(), 64, 500, 5000, 16);
+    private final LoadOptimizerService optimizerService = new LoadOptimizerService(
+        new DPBitmaskOptimizer(), validationService, routeCompatibilityService,
+        new SolveCoalescer(new SimpleMeterRegistry()), shardCoordinator);
+
+    // The last truck fits nothing: every generated order weighs at least 1,000 lbs
+    private final List<Truck> trucks = List.of(
+        truck("dry-van", 44_000, 3_000),
+        truck("straight", 26_000, 1_700),
+        truck("box", 12_000, 800),
+        truck("sprinter", 4_000, 300),
+        truck("cargo-bike", 500, 20));
+
+    @AfterEach
+    void tearDown() {
+        shardCoordinator.shutdown();
+    }
+
+    @Test
+    void matchesPerTruckOptimizeOnRandomBoards() {
+        Random random = new Random(11);
+        for (int trial = 0; trial < 40; trial++) {
+            List<Order> orders = randomBoard(random, 4 + random.nextInt(15), LANES.length);
+            CapacityIndex index = fleetSizingService.buildIndex(trucks, orders);
+
+            for (Truck truck : trucks) {
+                OptimizationResult expected = optimizerService.optimize(truck, orders);
+                OptimizationResult actual = index.query(truck.getMaxWeightLbs(), truck.getMaxVolumeCuft());
+
+                String board = "trial=" + trial + " truck=" + truck.getId();
+                assertEquals(expected.getTotalPayoutCents(), actual.getTotalPayoutCents(), board);
+                assertTrue(actual.getTotalWeightLbs() <= truck.getMaxWeightLbs(), board);
+                assertTrue(actual.getTotalVolumeCuft() <= truck.getMaxVolumeCuft(), board);
+                assertEquals(actual.getTotalPayoutCents(), actual.getSelectedOrders().stream()
+                    .mapToLong(Order::getPayoutCents).sum(), board);
+                assertTrue(actual.getSelectedOrders().size() == 1
+                    || actual.getSelectedOrders().stream().noneMatch(Order::getIsHazmat), board);
+                assertTrue(actual.getSelectedOrders().stream()
+                    .map(Order::getRouteKey).distinct().count() <= 1, board);
+            }
+
+            OptimizationResult none = index.query(500, 20);
+            assertEquals(0L, none.getTotalPayoutCents());
+            assertTrue(none.getSelectedOrders().isEmpty());
+        }
+    }
+
+    @Test
+    void emptyFrontierAnswersEveryTruckWithNothing() {
+        CapacityIndex empty = fleetSizingService.buildIndex(trucks, List.of());
+        assertEquals(0, empty.size());
+        assertEquals(0L, empty.query(44_000, 3_000).getTotalPayoutCents());
+
+        // Hazmat orders are standalone loads; none of these fit even the largest truck
+        List<Order> oversized = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            oversized.add(order("haz-" + i, LANES[i][0], LANES[i][1], 100_000L, 50_000, 100, true));
+        }
+        CapacityIndex nothingFits = fleetSizingService.buildIndex(trucks, oversized);
+        assertEquals(0, nothingFits.size());
+        assertTrue(nothingFits.query(44_000, 3_000).getSelectedOrders().isEmpty());
+    }
+
+    @Test
+    void rejectsQueriesAboveTheIndexBound() {
+        CapacityIndex index = fleetSizingService.buildIndex(trucks, randomBoard(new Random(3), 8, LANES.length));
+
+        assertThrows(IllegalArgumentException.class, () -> index.query(44_001, 3_000));
+    }
+
+    @Test
+    void rejectsBoardsWhoseFrontierExceedsTheCap() {
+        ReflectionTestUtils.setField(fleetSizingService, "maxFrontier", 50);
+        // One lane so all 18 orders expand into a single frontier
+        List<Order> orders = randomBoard(new Random(5), 18, 1);
+
+        assertThrows(PayloadTooLargeException.class, () -> fleetSizingService.buildIndex(trucks, orders));
+    }
+
+    private static List<Order> randomBoard(Random random, int n, int lanes) {
+        List<Order> orders = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            String[] lane = LANES[random.nextInt(lanes)];
+            int weight = 1_000 + random.nextInt(15_000);
+            int volume = 50 + random.nextInt(1_000);
+            long payout = 10_000L + random.nextInt(300_000);
+            orders.add(order("ord-" + i, lane[0], lane[1], payout, weight, volume, random.nextInt(5) == 0));
+        }
+        return orders;
+    }
+}
@@ -0,0 +1,263 @@
+package com.logistics.loadoptimizer.service;
+
+import com.logistics.loadoptimizer.algorithm.DPBitmaskOptimizer;
+import com.logistics.loadoptimizer.exception.InvalidInputException;
+import com.logistics.loadoptimizer.exception.PayloadTooLargeException;
+import com.logistics.loadoptimizer.model.OptimizationResult;
+import com.logistics.loadoptimizer.model.Order;
+import com.logistics.loadoptimizer.model.Truck;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.logistics.loadoptimizer.TestOrders.truck;
+import static com.logistics.loadoptimizer.TestOrders.uniformBoard;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ShardCoordinatorTest {
+
+    private static final String LANE = "Los Angeles, CA->Dallas, TX";
+    private static final long REQUEST_TIMEOUT_MS = 2_000;
+
+    private static final String SOLVED = "{\"truck_id\":\"truck-1\",\"selected_order_ids\":[\"ord-0\"],"
+        + "\"total_payout_cents\":100000,\"total_weight_lbs\":1000,\"total_volume_cuft\":100}";
+
+    private final Truck truck = truck("truck-1");
+    private final List<Order> group = uniformBoard(3, 100_000L, 1_000, 100);
+    private final List<FakeWorker> fakeWorkers = new ArrayList<>();
+    private final AtomicInteger localSolves = new AtomicInteger();
+    private final Function<List<Order>, OptimizationResult> localSolver = orders -> {
+        localSolves.incrementAndGet();
+        return OptimizationResult.builder()
+            .selectedOrders(List.of())
+            .totalPayoutCents(0L)
+            .totalWeightLbs(0)
+            .totalVolumeCuft(0)
+            .build();
+    };
+
+    private ShardCoordinator coordinator;
+
+    @AfterEach
+    void tearDown() {
+        if (coordinator != null) {
+            coordinator.shutdown();
+        }
+        fakeWorkers.forEach(FakeWorker::stop);
+    }
+
+    @Test
+    void sendsShardToTheLaneOwner() throws IOException {
+        List<FakeWorker> workers = startCoordinator(2);
+        FakeWorker owner = workers.get(0);
+
+        OptimizationResult result = solve();
+
+        assertEquals(100_000L, result.getTotalPayoutCents());
+        assertEquals(owner.url(), result.getTrace().getRouteGroups().get(0).getWorker());
+        assertEquals(1, owner.requests.get());
+        assertEquals(0, workers.get(1).requests.get());
+        assertEquals(0, localSolves.get());
+    }
+
+    @Test
+    void failsOverOnServerErrorAndMarksTheWorkerDown() throws IOException {
+        List<FakeWorker> workers = startCoordinator(2);
+        FakeWorker owner = workers.get(0);
+        FakeWorker next = workers.get(1);
+        owner.respond(500, "{\"error\":\"INTERNAL_ERROR\"}");
+
+        OptimizationResult result = solve();
+
+        assertEquals(next.url(), result.getTrace().getRouteGroups().get(0).getWorker());
+        // The owner is cooling down, so the next shard goes straight to the fallback
+        solve();
+        assertEquals(1, owner.requests.get());
+        assertEquals(2, next.requests.get());
+        assertEquals(0, localSolves.get());
+    }
+
+    @Test
+    void failsOverOnTimeout() throws IOException {
+        List<FakeWorker> workers = startCoordinator(2);
+        workers.get(0).delayMs = REQUEST_TIMEOUT_MS + 1_000;
+
+        OptimizationResult result = solve();
+
+        assertEquals(workers.get(1).url(), result.getTrace().getRouteGroups().get(0).getWorker());
+        assertEquals(0, localSolves.get());
+    }
+
+    @Test
+    void fallsBackLocallyWhenNoWorkerAnswers() throws IOException {
+        List<FakeWorker> workers = startCoordinator(2);
+        workers.get(0).respond(503, "{\"error\":\"SOLVER_BUSY\"}");
+        workers.get(1).stop();
+
+        OptimizationResult result = solve();
+
+        assertEquals(1, localSolves.get());
+        assertNull(result.getTrace());
+        assertEquals(1, workers.get(0).requests.get());
+    }
+
+    @Test
+    void failsOverOnOtherClientErrors() throws IOException {
+        List<FakeWorker> workers = startCoordinator(2);
+        FakeWorker owner = workers.get(0);
+        FakeWorker next = workers.get(1);
+        // e.g. a worker on an older build without this endpoint
+        owner.respond(404, "{\"error\":\"NOT_FOUND\"}");
+
+        OptimizationResult result = solve();
+
+        assertEquals(next.url(), result.getTrace().getRouteGroups().get(0).getWorker());
+        solve();
+        assertEquals(1, owner.requests.get());
+        assertEquals(2, next.requests.get());
+        assertEquals(0, localSolves.get());
+    }
+
+    @Test
+    void clientErrorIsRethrownWithoutMarkingTheWorkerDown() throws IOException {
+        List<FakeWorker> workers = startCoordinator(2);
+        FakeWorker owner = workers.get(0);
+        owner.respond(413, "{\"error\":\"PAYLOAD_TOO_LARGE\",\"message\":\"Maximum 22 orders allowed\"}");
+
+        PayloadTooLargeException e = assertThrows(PayloadTooLargeException.class, this::solve);
+
+        assertEquals("Maximum 22 orders allowed", e.getMessage());
+        assertEquals(0, workers.get(1).requests.get());
+        assertEquals(0, localSolves.get());
+
+        owner.respond(400, "{\"error\":\"INVALID_INPUT\",\"message\":\"Validation failed\","
+            + "\"details\":[\"Order ID is required\"]}");
+        InvalidInputException invalid = assertThrows(InvalidInputException.class, this::solve);
+        assertEquals(List.of("Order ID is required"), invalid.getDetails());
+
+        owner.respond(200, SOLVED);
+        assertEquals(owner.url(), solve().getTrace().getRouteGroups().get(0).getWorker());
+        assertEquals(3, owner.requests.get());
+        assertEquals(0, workers.get(1).requests.get());
+    }
+
+    @Test
+    void smallGroupsAreSolvedOnTheCallingThread() throws IOException {
+        List<FakeWorker> workers = startCoordinator(2);
+        ReflectionTestUtils.setField(coordinator, "minGroupSize", group.size() + 1);
+        List<Thread> solverThreads = new ArrayList<>();
+
+        coordinator.solveGroups(truck, Map.of(LANE, group), orders -> {
+            solverThreads.add(Thread.currentThread());
+            return localSolver.apply(orders);
+        });
+
+        assertEquals(List.of(Thread.currentThread()), solverThreads);
+        assertEquals(0, workers.get(0).requests.get());
+        assertEquals(0, workers.get(1).requests.get());
+    }
+
+    @Test
+    void localSolveNeverReachesAWorker() throws IOException {
+        List<FakeWorker> workers = startCoordinator(2);
+        ValidationService validationService = new ValidationService();
+        RouteCompatibilityService routeCompatibilityService = new RouteCompatibilityService();
+        LoadOptimizerService optimizerService = new LoadOptimizerService(
+            new DPBitmaskOptimizer(), validationService, routeCompatibilityService,
+            new SolveCoalescer(new SimpleMeterRegistry()), coordinator);
+
+        OptimizationResult result = optimizerService.solveLocally(truck, group);
+
+        assertEquals(300_000L, result.getTotalPayoutCents());
+        assertNull(result.getTrace().getRouteGroups().get(0).getWorker());
+        assertEquals(0, workers.get(0).requests.get());
+        assertEquals(0, workers.get(1).requests.get());
+    }
+
+    private OptimizationResult solve() {
+        return coordinator.solveGroups(truck, Map.of(LANE, group), localSolver).get(0);
+    }
+
+    /**
+     * Starts healthy fake workers and a coordinator over them; the returned list is in
+     * the lane's ring preference order.
+     */
+    private List<FakeWorker> startCoordinator(int count) throws IOException {
+        for (int i = 0; i < count; i++) {
+            fakeWorkers.add(new FakeWorker());
+        }
+        List<String> urls = fakeWorkers.stream().map(FakeWorker::url).collect(Collectors.toList());
+        coordinator = new ShardCoordinator(urls, 64, REQUEST_TIMEOUT_MS, REQUEST_TIMEOUT_MS, 2);
+        ReflectionTestUtils.setField(coordinator, "minGroupSize", 1);
+        ReflectionTestUtils.setField(coordinator, "downCooldownMs", 60_000L);
+
+        List<FakeWorker> ordered = new ArrayList<>();
+        for (String url : new ConsistentHashRing(urls, 64).preferenceList(LANE)) {
+            ordered.add(fakeWorkers.get(urls.indexOf(url)));
+        }
+        return ordered;
+    }
+
+    private static final class FakeWorker {
+        private final HttpServer server;
+        private final AtomicInteger requests = new AtomicInteger();
+        private volatile int status = 200;
+        private volatile String body = SOLVED;
+        private volatile long delayMs;
+
+        FakeWorker() throws IOException {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            server.createContext("/api/v1/load-optimizer/optimize", exchange -> {
+                requests.incrementAndGet();
+                try (InputStream in = exchange.getRequestBody()) {
+                    in.readAllBytes();
+                }
+                if (delayMs > 0) {
+                    try {
+                        Thread.sleep(delayMs);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(status, bytes.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(bytes);
+                } catch (IOException ignored) {
+                    // The coordinator gave up on a delayed response
+                }
+            });
+            server.start();
+        }
+
+        void respond(int status, String body) {
+            this.status = status;
+            this.body = body;
+        }
+
+        String url() {
+            return "http://127.0.0.1:" + server.getAddress().getPort();
+        }
+
+        void stop() {
+            server.stop(0);
+        }
+    }
+}
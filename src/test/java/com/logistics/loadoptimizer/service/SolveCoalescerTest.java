@@ -0,0 +1,219 @@
+package com.logistics.loadoptimizer.service;
+
+import com.logistics.loadoptimizer.exception.SolverTimeoutException;
+import com.logistics.loadoptimizer.model.OptimizationResult;
+import com.logistics.loadoptimizer.model.Order;
+import com.logistics.loadoptimizer.model.Truck;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static com.logistics.loadoptimizer.TestOrders.order;
+import static com.logistics.loadoptimizer.TestOrders.truck;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SolveCoalescerTest {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private final Truck truck = truck("truck-1");
+    private final List<Order> orders = List.of(
+        order("ord-1", 100_000L, 10_000, 500), order("ord-2", 100_000L, 10_000, 500));
+
+    private SimpleMeterRegistry registry;
+    private SolveCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        coalescer = new SolveCoalescer(registry);
+        ReflectionTestUtils.setField(coalescer, "enabled", true);
+        ReflectionTestUtils.setField(coalescer, "waitTimeoutMs", TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+    }
+
+    @Test
+    void concurrentIdenticalSolvesRunOnce() throws Exception {
+        int callers = 8;
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger solves = new AtomicInteger();
+        OptimizationResult expected = result(100_000L);
+        Supplier<OptimizationResult> solver = () -> {
+            solves.incrementAndGet();
+            leaderStarted.countDown();
+            await(release);
+            return expected;
+        };
+
+        Caller leader = start(solver);
+        assertTrue(leaderStarted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        List<Caller> waiters = new ArrayList<>();
+        for (int i = 1; i < callers; i++) {
+            waiters.add(start(solver));
+        }
+        waiters.forEach(SolveCoalescerTest::awaitParked);
+        release.countDown();
+
+        assertSame(expected, leader.result());
+        for (Caller waiter : waiters) {
+            assertSame(expected, waiter.result());
+        }
+        assertEquals(1, solves.get());
+        assertEquals(1.0, registry.get("optimizer.solves.executed").counter().count());
+        assertEquals(callers - 1, registry.get("optimizer.solves.coalesced").counter().count());
+        assertTrue(inFlight().isEmpty());
+    }
+
+    @Test
+    void errorIsRethrownToEveryWaiter() throws Exception {
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        IllegalStateException failure = new IllegalStateException("solver failed");
+        Supplier<OptimizationResult> solver = () -> {
+            leaderStarted.countDown();
+            await(release);
+            throw failure;
+        };
+
+        Caller leader = start(solver);
+        assertTrue(leaderStarted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        List<Caller> waiters = List.of(start(solver), start(solver), start(solver));
+        waiters.forEach(SolveCoalescerTest::awaitParked);
+        release.countDown();
+
+        assertSame(failure, leader.failure());
+        for (Caller waiter : waiters) {
+            assertSame(failure, waiter.failure());
+        }
+        assertEquals(1.0, registry.get("optimizer.solves.executed").counter().count());
+        assertEquals(0.0, registry.get("optimizer.solves.coalesced").counter().count());
+        assertTrue(inFlight().isEmpty());
+    }
+
+    @Test
+    void waiterTimesOut() throws Exception {
+        ReflectionTestUtils.setField(coalescer, "waitTimeoutMs", 50L);
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        OptimizationResult expected = result(100_000L);
+
+        Caller leader = start(() -> {
+            leaderStarted.countDown();
+            await(release);
+            return expected;
+        });
+        assertTrue(leaderStarted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        assertThrows(SolverTimeoutException.class,
+            () -> coalescer.execute(truck, orders, () -> result(0L)));
+
+        release.countDown();
+        assertSame(expected, leader.result());
+    }
+
+    @Test
+    void waitersRetryWhenLeaderIsCancelled() throws Exception {
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger retries = new AtomicInteger();
+        OptimizationResult retried = result(200_000L);
+
+        Caller leader = start(() -> {
+            leaderStarted.countDown();
+            await(release);
+            throw new CancellationException("cancelled by its caller");
+        });
+        assertTrue(leaderStarted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        Caller waiter = start(() -> {
+            retries.incrementAndGet();
+            return retried;
+        });
+        awaitParked(waiter);
+        release.countDown();
+
+        assertInstanceOf(CancellationException.class, leader.failure());
+        assertSame(retried, waiter.result());
+        assertEquals(1, retries.get());
+        assertEquals(2.0, registry.get("optimizer.solves.executed").counter().count());
+        assertEquals(0.0, registry.get("optimizer.solves.coalesced").counter().count());
+        assertTrue(inFlight().isEmpty());
+    }
+
+    @Test
+    void fingerprintIgnoresOrderSequenceAndTruckId() {
+        Truck other = truck("truck-2");
+
+        assertEquals(SolveCoalescer.fingerprint(truck, orders),
+            SolveCoalescer.fingerprint(other, List.of(orders.get(1), orders.get(0))));
+    }
+
+    private record Caller(Thread thread, FutureTask<OptimizationResult> task) {
+
+        OptimizationResult result() throws Exception {
+            return task.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+
+        Throwable failure() throws Exception {
+            ExecutionException e = assertThrows(ExecutionException.class,
+                () -> task.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            return e.getCause();
+        }
+    }
+
+    private Caller start(Supplier<OptimizationResult> solver) {
+        FutureTask<OptimizationResult> task =
+            new FutureTask<>(() -> coalescer.execute(truck, orders, solver));
+        Thread thread = new Thread(task, "coalescer-test-caller");
+        thread.setDaemon(true);
+        thread.start();
+        return new Caller(thread, task);
+    }
+
+    // A waiter parks in a timed get on the leader's future
+    private static void awaitParked(Caller caller) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (caller.thread().getState() != Thread.State.TIMED_WAITING) {
+            assertTrue(System.nanoTime() < deadline, "caller never started waiting");
+            Thread.onSpinWait();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("interrupted");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, ?> inFlight() {
+        return (Map<String, ?>) ReflectionTestUtils.getField(coalescer, "inFlight");
+    }
+
+    private static OptimizationResult result(long payoutCents) {
+        return OptimizationResult.builder()
+            .selectedOrders(List.of())
+            .totalPayoutCents(payoutCents)
+            .totalWeightLbs(0)
+            .totalVolumeCuft(0)
+            .build();
+    }
+}
@@ -0,0 +1,249 @@
+package com.logistics.loadoptimizer.service;
+
+import com.logistics.loadoptimizer.exception.JobNotFoundException;
+import com.logistics.loadoptimizer.model.JobPriority;
+import com.logistics.loadoptimizer.model.JobStatus;
+import com.logistics.loadoptimizer.model.OptimizationJob;
+import com.logistics.loadoptimizer.model.OptimizationResult;
+import com.logistics.loadoptimizer.model.Order;
+import com.logistics.loadoptimizer.model.Truck;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.logistics.loadoptimizer.TestOrders.order;
+import static com.logistics.loadoptimizer.TestOrders.truck;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SolverJobSchedulerTest {
+
+    private static final long TIMEOUT_MS = 10_000;
+    private static final String BLOCKER = "blocker";
+    private static final String SPINNER = "spinner";
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch spinning = new CountDownLatch(1);
+    private final List<Integer> runOrder = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean interruptedOnEntry = new AtomicBoolean();
+
+    private SolverJobScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        // Stands in for the solver: "blocker" trucks hold the worker, "spinner" trucks run
+        // until interrupted, anything else records its board size and returns at once
+        LoadOptimizerService optimizerService = new LoadOptimizerService(null, null, null, null, null) {
+            @Override
+            public OptimizationResult optimize(Truck truck, List<Order> orders) {
+                if (Thread.currentThread().isInterrupted()) {
+                    interruptedOnEntry.set(true);
+                }
+                if (BLOCKER.equals(truck.getId())) {
+                    awaitRelease();
+                } else if (SPINNER.equals(truck.getId())) {
+                    spinning.countDown();
+                    while (!Thread.currentThread().isInterrupted()) {
+                        Thread.onSpinWait();
+                    }
+                    throw new CancellationException("Optimization cancelled");
+                }
+                runOrder.add(orders.size());
+                return OptimizationResult.builder()
+                    .selectedOrders(List.of())
+                    .totalPayoutCents(0L)
+                    .totalWeightLbs(0)
+                    .totalVolumeCuft(0)
+                    .build();
+            }
+        };
+
+        scheduler = new SolverJobScheduler(
+            optimizerService, new ValidationService(), new RouteCompatibilityService(), 1, 1);
+        ReflectionTestUtils.setField(scheduler, "batchCostThreshold", 2_000_000L);
+        ReflectionTestUtils.setField(scheduler, "maxPending", 100);
+        ReflectionTestUtils.setField(scheduler, "resultTtlMs", 600_000L);
+        ReflectionTestUtils.setField(scheduler, "maxRetained", 10_000);
+        ReflectionTestUtils.setField(scheduler, "agingCostPerMs", 10_000L);
+        ReflectionTestUtils.setField(scheduler, "maxAgingDelayMs", 60_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        scheduler.shutdown();
+    }
+
+    @Test
+    void estimatesCostPerRouteGroup() {
+        List<Order> orders = new ArrayList<>(board("Los Angeles, CA", "Dallas, TX", 3, 1));
+        orders.addAll(board("Chicago, IL", "Atlanta, GA", 2, 0));
+
+        // (2^3 * 3 + 1 hazmat) + (2^2 * 2)
+        assertEquals(33L, scheduler.estimateCost(orders));
+        // An empty subset still costs one state, plus the hazmat scan
+        assertEquals(2L, scheduler.estimateCost(board("Los Angeles, CA", "Dallas, TX", 0, 1)));
+    }
+
+    @Test
+    void classifiesPriorityFromEstimatedCost() {
+        OptimizationJob small = scheduler.submit(truck("t"), lane(4), null);
+        OptimizationJob large = scheduler.submit(truck("t"), lane(20), null);
+        OptimizationJob forced = scheduler.submit(truck("t"), lane(20), JobPriority.INTERACTIVE);
+
+        assertEquals(JobPriority.INTERACTIVE, small.getPriority());
+        assertEquals(JobPriority.BATCH, large.getPriority());
+        assertTrue(large.getEstimatedCost() > 2_000_000L);
+        assertEquals(JobPriority.INTERACTIVE, forced.getPriority());
+    }
+
+    @Test
+    void cheaperJobsRunFirstWithinTheAgingCap() {
+        // One cost unit per ms: the 14-order job is held back by the full 60 s cap
+        ReflectionTestUtils.setField(scheduler, "agingCostPerMs", 1L);
+        scheduler.submit(truck(BLOCKER), lane(1), JobPriority.INTERACTIVE);
+        OptimizationJob expensive = scheduler.submit(truck("t"), lane(14), JobPriority.INTERACTIVE);
+        OptimizationJob cheap = scheduler.submit(truck("t"), lane(2), JobPriority.INTERACTIVE);
+        release.countDown();
+
+        awaitStatus(expensive, JobStatus.COMPLETED);
+        awaitStatus(cheap, JobStatus.COMPLETED);
+        assertEquals(List.of(1, 2, 14), runOrder);
+    }
+
+    @Test
+    void agedJobsAreNotOvertaken() {
+        // No head start at all: the queue degenerates to FIFO
+        ReflectionTestUtils.setField(scheduler, "maxAgingDelayMs", 0L);
+        scheduler.submit(truck(BLOCKER), lane(1), JobPriority.INTERACTIVE);
+        OptimizationJob expensive = scheduler.submit(truck("t"), lane(14), JobPriority.INTERACTIVE);
+        OptimizationJob cheap = scheduler.submit(truck("t"), lane(2), JobPriority.INTERACTIVE);
+        release.countDown();
+
+        awaitStatus(expensive, JobStatus.COMPLETED);
+        awaitStatus(cheap, JobStatus.COMPLETED);
+        assertEquals(List.of(1, 14, 2), runOrder);
+    }
+
+    @Test
+    void cancellingQueuedJobRemovesItFromTheQueue() {
+        OptimizationJob blocker = scheduler.submit(truck(BLOCKER), lane(1), JobPriority.INTERACTIVE);
+        awaitStatus(blocker, JobStatus.RUNNING);
+        OptimizationJob queued = scheduler.submit(truck("t"), lane(3), JobPriority.INTERACTIVE);
+        assertEquals(1, pending());
+
+        OptimizationJob cancelled = scheduler.cancel(queued.getId());
+
+        assertEquals(JobStatus.CANCELLED, cancelled.getStatus());
+        assertNotNull(cancelled.getFinishedAt());
+        assertEquals(0, pending());
+        assertTrue(executor("interactiveExecutor").getQueue().isEmpty());
+
+        release.countDown();
+        awaitStatus(blocker, JobStatus.COMPLETED);
+        assertEquals(JobStatus.CANCELLED, scheduler.get(queued.getId()).getStatus());
+        assertEquals(List.of(1), runOrder);
+    }
+
+    @Test
+    void cancellingRunningJobInterruptsTheSolver() throws InterruptedException {
+        OptimizationJob running = scheduler.submit(truck(SPINNER), lane(3), JobPriority.INTERACTIVE);
+        assertTrue(spinning.await(TIMEOUT_MS, TimeUnit.MILLISECONDS));
+
+        scheduler.cancel(running.getId());
+        awaitStatus(running, JobStatus.CANCELLED);
+
+        // The next job on the same single worker thread must not see a stale interrupt,
+        // and cancelling the finished job again must not reach it either
+        OptimizationJob next = scheduler.submit(truck(BLOCKER), lane(2), JobPriority.INTERACTIVE);
+        awaitStatus(next, JobStatus.RUNNING);
+        assertEquals(JobStatus.CANCELLED, scheduler.cancel(running.getId()).getStatus());
+        release.countDown();
+
+        awaitStatus(next, JobStatus.COMPLETED);
+        assertFalse(interruptedOnEntry.get());
+        assertEquals(0, pending());
+    }
+
+    @Test
+    void purgesFinishedJobsAfterTtl() throws InterruptedException {
+        ReflectionTestUtils.setField(scheduler, "resultTtlMs", 50L);
+        OptimizationJob job = scheduler.submit(truck("t"), lane(2), JobPriority.INTERACTIVE);
+        awaitStatus(job, JobStatus.COMPLETED);
+
+        Thread.sleep(100);
+
+        assertThrows(JobNotFoundException.class, () -> scheduler.get(job.getId()));
+    }
+
+    @Test
+    void keepsAtMostMaxRetainedJobs() {
+        ReflectionTestUtils.setField(scheduler, "maxRetained", 2);
+        List<OptimizationJob> submitted = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            OptimizationJob job = scheduler.submit(truck("t"), lane(2), JobPriority.INTERACTIVE);
+            awaitStatus(job, JobStatus.COMPLETED);
+            submitted.add(job);
+        }
+
+        // The oldest finished job goes first
+        assertThrows(JobNotFoundException.class, () -> scheduler.get(submitted.get(0).getId()));
+        assertEquals(JobStatus.COMPLETED, scheduler.get(submitted.get(1).getId()).getStatus());
+        assertEquals(JobStatus.COMPLETED, scheduler.get(submitted.get(2).getId()).getStatus());
+    }
+
+    private void awaitRelease() {
+        try {
+            if (!release.await(TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException("blocker never released");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Optimization cancelled");
+        }
+    }
+
+    private static void awaitStatus(OptimizationJob job, JobStatus status) {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        while (job.getStatus() != status) {
+            assertTrue(System.currentTimeMillis() < deadline,
+                "job " + job.getId() + " stuck in " + job.getStatus() + ", expected " + status);
+            Thread.onSpinWait();
+        }
+    }
+
+    private int pending() {
+        return ((AtomicInteger) ReflectionTestUtils.getField(scheduler, "pending")).get();
+    }
+
+    private ThreadPoolExecutor executor(String field) {
+        return (ThreadPoolExecutor) ReflectionTestUtils.getField(scheduler, field);
+    }
+
+    private static List<Order> lane(int count) {
+        return board("Los Angeles, CA", "Dallas, TX", count, 0);
+    }
+
+    private static List<Order> board(String origin, String destination, int regular, int hazmat) {
+        List<Order> orders = new ArrayList<>(regular + hazmat);
+        for (int i = 0; i < regular + hazmat; i++) {
+            orders.add(order(origin.substring(0, 3) + "-" + i, origin, destination,
+                100_000L + i, 1_000, 100, i >= regular));
+        }
+        return orders;
+    }
+}